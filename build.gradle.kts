@@ -1,6 +1,7 @@
 plugins {
     id("software.amazon.smithy.gradle.smithy-jar") version "1.1.0" apply false
     id("software.amazon.smithy.gradle.smithy-base") version "1.1.0" apply false
+    id("me.champeau.jmh") version "0.7.2" apply false
 }
 
 val smithyVersion: String by project
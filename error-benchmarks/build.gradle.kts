@@ -0,0 +1,39 @@
+plugins {
+    java
+    id("me.champeau.jmh")
+}
+
+val springBootVersion = "4.0.3"
+val smithyVersion: String by project
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_21
+    targetCompatibility = JavaVersion.VERSION_21
+}
+
+dependencies {
+    jmhImplementation(project(":error-spring"))
+    jmhImplementation("org.springframework.boot:spring-boot-starter-web:$springBootVersion")
+    jmhImplementation("com.fasterxml.jackson.core:jackson-databind:2.17.0")
+    jmhImplementation(project(":error-trait"))
+    // Operation enum generated from the example service model
+    jmhImplementation(project(":example-service"))
+    jmhImplementation("software.amazon.smithy:smithy-model:$smithyVersion")
+    jmhImplementation("software.amazon.smithy:smithy-openapi:$smithyVersion")
+    jmhImplementation("software.amazon.smithy:smithy-aws-traits:$smithyVersion")
+}
+
+jmh {
+    // Report allocation rate (gc.alloc.rate.norm) next to the timings
+    profilers.add("gc")
+}
+
+// Wall time and peak heap of the OpenAPI conversion and of each error-trait mapper on synthetic
+// services, e.g. ./gradlew :error-benchmarks:openApiReport --args="100 1000 10000"
+tasks.register<JavaExec>("openApiReport") {
+    group = "benchmark"
+    description = "Reports OpenAPI conversion cost per error-trait mapper on synthetic models"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.openapi.OpenApiConversionReport")
+    maxHeapSize = "2g"
+}
@@ -0,0 +1,84 @@
+package com.example.benchmark;
+
+import com.example.exception.validation.BatchValidation;
+import com.example.exception.validation.InvalidFormatAttributes;
+import com.example.exception.validation.InvalidFormatValidationError;
+import com.example.exception.validation.ValidationError;
+import com.example.exception.validation.ValidationProblemDetail;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validating a list of emails against a pattern, one in ten invalid, comparing a sequential loop
+ * that builds indexed refs by hand with {@link BatchValidation} on the common pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchValidationBenchmark {
+
+  private static final String EMAIL_PATTERN = "^[a-zA-Z0-9+_.-]+@[a-zA-Z0-9.-]+$";
+  private static final Pattern EMAIL = Pattern.compile(EMAIL_PATTERN);
+
+  @Param({"100", "10000"})
+  private int itemCount;
+
+  private List<String> emails;
+  private BatchValidation<String> batchValidation;
+
+  @Setup
+  public void setUp() {
+    emails = IntStream.range(0, itemCount)
+        .mapToObj(i -> i % 10 == 0 ? "user" + i : "user" + i + "@example.com")
+        .toList();
+    batchValidation = BatchValidation.builder("users", BatchValidationBenchmark::validate).build();
+  }
+
+  @Benchmark
+  public ValidationProblemDetail sequential() {
+    ValidationProblemDetail.Builder builder = ValidationProblemDetail.builder();
+    for (int i = 0; i < emails.size(); i++) {
+      for (ValidationError error : validate(emails.get(i))) {
+        builder.error(InvalidFormatValidationError.builder()
+            .detail(error.getDetail())
+            .ref("users[" + i + "]." + error.getRef())
+            .attributes(InvalidFormatAttributes.builder().pattern(EMAIL_PATTERN).build())
+            .build());
+      }
+    }
+    return builder.build();
+  }
+
+  @Benchmark
+  public Optional<ValidationProblemDetail> batch() {
+    return batchValidation.validate(emails);
+  }
+
+  private static List<ValidationError> validate(String email) {
+    if (EMAIL.matcher(email).matches()) {
+      return List.of();
+    }
+    return List.of(InvalidFormatValidationError.builder()
+        .detail("Email must be a valid email address")
+        .ref("email")
+        .attributes(InvalidFormatAttributes.builder().pattern(EMAIL_PATTERN).build())
+        .build());
+  }
+}
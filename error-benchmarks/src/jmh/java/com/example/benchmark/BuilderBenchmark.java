@@ -0,0 +1,114 @@
+package com.example.benchmark;
+
+import com.example.exception.DetailTemplate;
+import com.example.exception.access.AccessProblemDetail;
+import com.example.exception.access.PublicAccessErrorResponseException;
+import com.example.exception.domain.AccountSuspendedProblemDetail;
+import com.example.exception.domain.TransferLimitExceededException;
+import com.example.exception.domain.TransferLimitExceededProblemDetail;
+import com.example.exception.server.ServerProblemDetail;
+import com.example.exception.validation.InvalidFormatValidationError;
+import com.example.exception.validation.PublicValidationErrorResponseException;
+import com.example.exception.validation.ValidationProblemDetail;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Cost of building problem details and exceptions through their builders, without throwing. The
+ * {@code *Detail} pair compares an eagerly concatenated detail with a template that is never read,
+ * and {@code sharedAccessProblemDetail} looks up a frozen instance instead of allocating one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuilderBenchmark {
+
+  private static final DetailTemplate INVALID_FORMAT =
+      DetailTemplate.of("{} must match the pattern {}");
+
+  private String field = "email";
+  private String pattern = "^[a-zA-Z0-9+_.-]+@[a-zA-Z0-9.-]+$";
+
+  @Benchmark
+  public AccessProblemDetail accessProblemDetail() {
+    return Fixtures.accessProblemDetail();
+  }
+
+  @Benchmark
+  public AccessProblemDetail sharedAccessProblemDetail() {
+    return AccessProblemDetail.builder()
+        .status(HttpStatus.UNAUTHORIZED)
+        .title("Unauthorized")
+        .detail("Invalid credentials")
+        .buildShared();
+  }
+
+  @Benchmark
+  public ServerProblemDetail serverProblemDetail() {
+    return Fixtures.serverProblemDetail();
+  }
+
+  @Benchmark
+  public AccountSuspendedProblemDetail accountSuspendedProblemDetail() {
+    return Fixtures.accountSuspendedProblemDetail();
+  }
+
+  @Benchmark
+  public TransferLimitExceededProblemDetail transferLimitExceededProblemDetail() {
+    return Fixtures.transferLimitExceededProblemDetail();
+  }
+
+  @Benchmark
+  public ValidationProblemDetail validationProblemDetail() {
+    return Fixtures.validationProblemDetail(2);
+  }
+
+  @Benchmark
+  public InvalidFormatValidationError concatenatedDetail() {
+    return InvalidFormatValidationError.builder()
+        .detail(field + " must match the pattern " + pattern)
+        .ref(field)
+        .build();
+  }
+
+  @Benchmark
+  public InvalidFormatValidationError templatedDetail() {
+    return InvalidFormatValidationError.builder()
+        .detail(INVALID_FORMAT, field, pattern)
+        .ref(field)
+        .build();
+  }
+
+  @Benchmark
+  public PublicAccessErrorResponseException accessException() {
+    return PublicAccessErrorResponseException.builder()
+        .problemDetail(Fixtures.accessProblemDetail())
+        .build();
+  }
+
+  @Benchmark
+  public TransferLimitExceededException domainException() {
+    return TransferLimitExceededException.builder()
+        .problemDetail(Fixtures.transferLimitExceededProblemDetail())
+        .build();
+  }
+
+  @Benchmark
+  public PublicValidationErrorResponseException validationException() {
+    return PublicValidationErrorResponseException.builder()
+        .problemDetail(Fixtures.validationProblemDetail(2))
+        .build();
+  }
+}
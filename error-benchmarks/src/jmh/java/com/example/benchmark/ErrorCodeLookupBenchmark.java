@@ -0,0 +1,74 @@
+package com.example.benchmark;
+
+import com.example.exception.domain.AccountErrorCode;
+import com.example.exception.domain.DomainErrorCode;
+import com.example.exception.domain.TransferErrorCode;
+import com.example.exception.validation.ValidationErrorCode;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolving a wire code string back to its error code constant, comparing the static resolvers
+ * with a scan over the enum {@code values()}. The code is copied in setup so that its hash is not
+ * already cached from the constant's own string.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorCodeLookupBenchmark {
+
+  @Param({"transfer.transfer_limit_exceeded", "account.unknown"})
+  private String domainCode;
+
+  @Param({"invalid_format"})
+  private String validationCode;
+
+  @Setup
+  public void setUp() {
+    domainCode = new String(domainCode.toCharArray());
+    validationCode = new String(validationCode.toCharArray());
+  }
+
+  @Benchmark
+  public Optional<DomainErrorCode> domainResolve() {
+    return DomainErrorCode.resolve(domainCode);
+  }
+
+  @Benchmark
+  public Optional<DomainErrorCode> domainValuesScan() {
+    return Stream.<DomainErrorCode[]>of(AccountErrorCode.values(), TransferErrorCode.values())
+        .flatMap(Stream::of)
+        .filter(code -> code.getCode().equals(domainCode))
+        .findFirst();
+  }
+
+  @Benchmark
+  public Optional<ValidationErrorCode> validationResolve() {
+    return ValidationErrorCode.resolve(validationCode);
+  }
+
+  @Benchmark
+  public Optional<ValidationErrorCode> validationValuesScan() {
+    for (ValidationErrorCode code : ValidationErrorCode.values()) {
+      if (code.getCode().equals(validationCode)) {
+        return Optional.of(code);
+      }
+    }
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,50 @@
+package com.example.benchmark;
+
+import com.example.exception.domain.TransferLimitExceededException;
+import com.example.exception.logging.ErrorFingerprint;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Keying a domain exception with a cause for log deduplication, comparing {@link ErrorFingerprint}
+ * with a key built from {@code Throwable.toString()} and formatted frames. Run with
+ * {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorFingerprintBenchmark {
+
+  private static final int FRAMES = 5;
+
+  private final TransferLimitExceededException exception = TransferLimitExceededException.builder()
+      .problemDetail(Fixtures.transferLimitExceededProblemDetail())
+      .cause(new IllegalStateException("Daily limit reached"))
+      .build();
+
+  @Benchmark
+  public long fingerprint() {
+    return ErrorFingerprint.of(exception, FRAMES);
+  }
+
+  @Benchmark
+  public int formattedKey() {
+    StringBuilder key = new StringBuilder(exception.toString());
+    StackTraceElement[] trace = exception.getCause().getStackTrace();
+    for (int i = 0; i < Math.min(FRAMES, trace.length); i++) {
+      key.append('\n').append(trace[i]);
+    }
+    return key.toString().hashCode();
+  }
+}
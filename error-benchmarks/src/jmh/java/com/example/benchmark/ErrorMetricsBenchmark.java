@@ -0,0 +1,61 @@
+package com.example.benchmark;
+
+import com.example.exception.domain.AccountSuspendedException;
+import com.example.exception.domain.DomainErrorResponseException;
+import com.example.exception.metrics.ErrorLatencies;
+import com.example.exception.metrics.ErrorMetrics;
+import com.example.service.ServiceOperation;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Counting a domain exception from several threads, comparing {@link ErrorMetrics} with a
+ * concurrent map keyed by a concatenated family, code and status, and recording its latency into
+ * {@link ErrorLatencies}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ErrorMetricsBenchmark {
+
+  private final DomainErrorResponseException exception = AccountSuspendedException.builder()
+      .problemDetail(Fixtures.accountSuspendedProblemDetail())
+      .build();
+  private final ErrorMetrics metrics = ErrorMetrics.global();
+  private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+  private final ErrorLatencies<ServiceOperation> latencies =
+      new ErrorLatencies<>(ServiceOperation.class);
+  private final long start = System.nanoTime();
+
+  @Benchmark
+  public void errorMetrics() {
+    metrics.record(exception);
+  }
+
+  @Benchmark
+  public void concurrentMap() {
+    String key = "domain:" + exception.getCode() + ":" + exception.getStatusCode().value();
+    counts.computeIfAbsent(key, k -> new LongAdder()).increment();
+  }
+
+  @Benchmark
+  public void errorLatencies() {
+    latencies.recordSince(ServiceOperation.CREATE_USER, exception, start);
+  }
+}
@@ -0,0 +1,101 @@
+package com.example.benchmark;
+
+import com.example.exception.access.AccessProblemDetail;
+import com.example.exception.domain.AccountSuspendedAttributes;
+import com.example.exception.domain.AccountSuspendedProblemDetail;
+import com.example.exception.domain.TransferLimitExceededAttributes;
+import com.example.exception.domain.TransferLimitExceededProblemDetail;
+import com.example.exception.json.ProblemDetailModule;
+import com.example.exception.server.ServerProblemDetail;
+import com.example.exception.validation.InvalidFormatAttributes;
+import com.example.exception.validation.InvalidFormatValidationError;
+import com.example.exception.validation.MissingValueAttributes;
+import com.example.exception.validation.MissingValueValidationError;
+import com.example.exception.validation.ValidationError;
+import com.example.exception.validation.ValidationProblemDetail;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+
+/**
+ * Representative payloads shared by the benchmarks, mirroring the ones used in the error-spring
+ * tests.
+ */
+final class Fixtures {
+
+  private Fixtures() {
+  }
+
+  static ObjectMapper objectMapper(boolean withModule) {
+    ObjectMapper objectMapper = new ObjectMapper();
+    objectMapper.addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class);
+    if (withModule) {
+      objectMapper.registerModule(new ProblemDetailModule());
+    }
+    return objectMapper;
+  }
+
+  static AccessProblemDetail accessProblemDetail() {
+    return AccessProblemDetail.builder()
+        .status(HttpStatus.UNAUTHORIZED)
+        .title("Unauthorized")
+        .detail("Invalid credentials")
+        .build();
+  }
+
+  static ServerProblemDetail serverProblemDetail() {
+    return ServerProblemDetail.builder()
+        .status(HttpStatus.INTERNAL_SERVER_ERROR)
+        .title("Internal Server Error")
+        .detail("Something went wrong")
+        .build();
+  }
+
+  static AccountSuspendedProblemDetail accountSuspendedProblemDetail() {
+    return AccountSuspendedProblemDetail.builder()
+        .detail("Your account has been suspended")
+        .attributes(AccountSuspendedAttributes.builder()
+            .reason("Violation of terms of service")
+            .build())
+        .build();
+  }
+
+  static TransferLimitExceededProblemDetail transferLimitExceededProblemDetail() {
+    return TransferLimitExceededProblemDetail.builder()
+        .detail("Transfer amount exceeds your daily limit")
+        .attributes(TransferLimitExceededAttributes.builder()
+            .amount(new BigDecimal("15000.00"))
+            .currency("USD")
+            .build())
+        .build();
+  }
+
+  static ValidationProblemDetail validationProblemDetail(int errorCount) {
+    ValidationProblemDetail.Builder builder = ValidationProblemDetail.builder();
+    for (int i = 0; i < errorCount; i++) {
+      builder.error(validationError(i));
+    }
+    return builder.build();
+  }
+
+  static ValidationError validationError(int index) {
+    if (index % 2 == 0) {
+      return InvalidFormatValidationError.builder()
+          .detail("Email must be a valid email address")
+          .ref("users[" + index + "].email")
+          .attributes(InvalidFormatAttributes.builder()
+              .pattern("^[a-zA-Z0-9+_.-]+@[a-zA-Z0-9.-]+$")
+              .build())
+          .build();
+    }
+    return MissingValueValidationError.builder()
+        .detail("Name is required")
+        .ref("users[" + index + "].name")
+        .attributes(MissingValueAttributes.builder()
+            .missingField("name")
+            .build())
+        .build();
+  }
+}
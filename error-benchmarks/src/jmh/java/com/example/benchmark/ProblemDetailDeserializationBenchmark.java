@@ -0,0 +1,77 @@
+package com.example.benchmark;
+
+import com.example.exception.access.AccessProblemDetail;
+import com.example.exception.domain.DomainProblemDetail;
+import com.example.exception.server.ServerProblemDetail;
+import com.example.exception.validation.ValidationProblemDetail;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deserialization cost of each problem detail. Domain payloads are read through the polymorphic
+ * {@link DomainProblemDetail} base type, with {@code code} written after the other members as
+ * other services commonly send it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProblemDetailDeserializationBenchmark {
+
+  private ObjectMapper objectMapper;
+  private byte[] accessJson;
+  private byte[] serverJson;
+  private byte[] accountSuspendedJson;
+  private byte[] transferLimitExceededJson;
+  private byte[] validationJson;
+
+  @Setup
+  public void setUp() throws IOException {
+    objectMapper = Fixtures.objectMapper(false);
+    accessJson = objectMapper.writeValueAsBytes(Fixtures.accessProblemDetail());
+    serverJson = objectMapper.writeValueAsBytes(Fixtures.serverProblemDetail());
+    accountSuspendedJson = objectMapper.writeValueAsBytes(
+        Fixtures.accountSuspendedProblemDetail());
+    transferLimitExceededJson = objectMapper.writeValueAsBytes(
+        Fixtures.transferLimitExceededProblemDetail());
+    validationJson = objectMapper.writeValueAsBytes(Fixtures.validationProblemDetail(2));
+  }
+
+  @Benchmark
+  public AccessProblemDetail deserializeAccess() throws IOException {
+    return objectMapper.readValue(accessJson, AccessProblemDetail.class);
+  }
+
+  @Benchmark
+  public ServerProblemDetail deserializeServer() throws IOException {
+    return objectMapper.readValue(serverJson, ServerProblemDetail.class);
+  }
+
+  @Benchmark
+  public DomainProblemDetail deserializeAccountSuspended() throws IOException {
+    return objectMapper.readValue(accountSuspendedJson, DomainProblemDetail.class);
+  }
+
+  @Benchmark
+  public DomainProblemDetail deserializeTransferLimitExceeded() throws IOException {
+    return objectMapper.readValue(transferLimitExceededJson, DomainProblemDetail.class);
+  }
+
+  @Benchmark
+  public ValidationProblemDetail deserializeValidation() throws IOException {
+    return objectMapper.readValue(validationJson, ValidationProblemDetail.class);
+  }
+}
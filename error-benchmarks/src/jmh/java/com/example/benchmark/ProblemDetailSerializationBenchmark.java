@@ -0,0 +1,80 @@
+package com.example.benchmark;
+
+import com.example.exception.access.AccessProblemDetail;
+import com.example.exception.domain.AccountSuspendedProblemDetail;
+import com.example.exception.domain.TransferLimitExceededProblemDetail;
+import com.example.exception.json.ProblemDetailModule;
+import com.example.exception.server.ServerProblemDetail;
+import com.example.exception.validation.ValidationProblemDetail;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization cost of each problem detail with Spring's mixin alone versus the pre-encoded
+ * {@link ProblemDetailModule}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProblemDetailSerializationBenchmark {
+
+  @Param({"MIXIN", "MODULE"})
+  private String serializer;
+
+  private ObjectMapper objectMapper;
+  private AccessProblemDetail accessProblemDetail;
+  private ServerProblemDetail serverProblemDetail;
+  private AccountSuspendedProblemDetail accountSuspendedProblemDetail;
+  private TransferLimitExceededProblemDetail transferLimitExceededProblemDetail;
+  private ValidationProblemDetail validationProblemDetail;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Fixtures.objectMapper("MODULE".equals(serializer));
+    accessProblemDetail = Fixtures.accessProblemDetail();
+    serverProblemDetail = Fixtures.serverProblemDetail();
+    accountSuspendedProblemDetail = Fixtures.accountSuspendedProblemDetail();
+    transferLimitExceededProblemDetail = Fixtures.transferLimitExceededProblemDetail();
+    validationProblemDetail = Fixtures.validationProblemDetail(2);
+  }
+
+  @Benchmark
+  public byte[] serializeAccess() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(accessProblemDetail);
+  }
+
+  @Benchmark
+  public byte[] serializeServer() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(serverProblemDetail);
+  }
+
+  @Benchmark
+  public byte[] serializeAccountSuspended() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(accountSuspendedProblemDetail);
+  }
+
+  @Benchmark
+  public byte[] serializeTransferLimitExceeded() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(transferLimitExceededProblemDetail);
+  }
+
+  @Benchmark
+  public byte[] serializeValidation() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(validationProblemDetail);
+  }
+}
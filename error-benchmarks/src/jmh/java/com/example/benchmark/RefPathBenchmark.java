@@ -0,0 +1,66 @@
+package com.example.benchmark;
+
+import com.example.exception.validation.MissingValueValidationError;
+import com.example.exception.validation.RefPath;
+import com.example.exception.validation.ValidationError;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Walking a nested object {@code depth} levels deep and reporting a missing value at every level,
+ * comparing refs concatenated level by level with {@link RefPath} nodes, both unread and rendered.
+ * Run with {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RefPathBenchmark {
+
+  @Param({"4", "16"})
+  private int depth;
+
+  private String field = "children";
+
+  @Benchmark
+  public void concatenated(Blackhole blackhole) {
+    String ref = "root";
+    for (int level = 0; level < depth; level++) {
+      ref = ref + "." + field + "[" + level + "]";
+      blackhole.consume(MissingValueValidationError.builder().ref(ref + ".name").build());
+    }
+  }
+
+  @Benchmark
+  public void refPath(Blackhole blackhole) {
+    RefPath ref = RefPath.of("root");
+    for (int level = 0; level < depth; level++) {
+      ref = ref.property(field).index(level);
+      blackhole.consume(MissingValueValidationError.builder().ref(ref.property("name")).build());
+    }
+  }
+
+  @Benchmark
+  public void refPathRendered(Blackhole blackhole) {
+    RefPath ref = RefPath.of("root");
+    for (int level = 0; level < depth; level++) {
+      ref = ref.property(field).index(level);
+      ValidationError error = MissingValueValidationError.builder()
+          .ref(ref.property("name"))
+          .build();
+      blackhole.consume(error.getRef());
+    }
+  }
+}
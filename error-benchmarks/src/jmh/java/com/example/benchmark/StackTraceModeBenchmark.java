@@ -0,0 +1,75 @@
+package com.example.benchmark;
+
+import com.example.exception.ApiErrorResponseException;
+import com.example.exception.StackTraceMode;
+import com.example.exception.StackTracePolicy;
+import com.example.exception.domain.AccountSuspendedException;
+import com.example.exception.domain.AccountSuspendedProblemDetail;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of throwing and catching a public domain exception with and without stack trace capture.
+ * The exception is thrown {@code depth} frames below the catch site, since the cost of filling in a
+ * stack trace grows with the depth of the stack. At this throw rate {@code ADAPTIVE} is far above
+ * its default threshold, so one throw in 100 captures a trace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackTraceModeBenchmark {
+
+  @Param({"FULL", "STACKLESS", "ADAPTIVE"})
+  private StackTraceMode mode;
+
+  @Param({"16", "128"})
+  private int depth;
+
+  private AccountSuspendedProblemDetail problemDetail;
+
+  @Setup
+  public void setUp() {
+    ApiErrorResponseException.setStackTracePolicy(StackTracePolicy.builder()
+        .defaultMode(mode)
+        .build());
+    problemDetail = Fixtures.accountSuspendedProblemDetail();
+  }
+
+  @TearDown
+  public void tearDown() {
+    ApiErrorResponseException.setStackTracePolicy(StackTracePolicy.fullTraces());
+  }
+
+  @Benchmark
+  public AccountSuspendedException throwAndCatch() {
+    try {
+      throwAt(depth);
+      throw new IllegalStateException("unreachable");
+    } catch (AccountSuspendedException e) {
+      return e;
+    }
+  }
+
+  private void throwAt(int remaining) {
+    if (remaining == 0) {
+      throw AccountSuspendedException.builder()
+          .problemDetail(problemDetail)
+          .build();
+    }
+    throwAt(remaining - 1);
+  }
+}
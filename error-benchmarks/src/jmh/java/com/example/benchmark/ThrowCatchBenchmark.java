@@ -0,0 +1,137 @@
+package com.example.benchmark;
+
+import com.example.exception.ApiErrorResponseException;
+import com.example.exception.access.AccessProblemDetail;
+import com.example.exception.access.InternalAccessErrorResponseException;
+import com.example.exception.access.PublicAccessErrorResponseException;
+import com.example.exception.domain.AccountSuspendedException;
+import com.example.exception.domain.AccountSuspendedProblemDetail;
+import com.example.exception.domain.InternalDomainErrorResponseException;
+import com.example.exception.domain.TransferLimitExceededException;
+import com.example.exception.domain.TransferLimitExceededProblemDetail;
+import com.example.exception.server.InternalServerErrorResponseException;
+import com.example.exception.server.PublicServerErrorResponseException;
+import com.example.exception.server.ServerProblemDetail;
+import com.example.exception.validation.InternalValidationErrorResponseException;
+import com.example.exception.validation.PublicValidationErrorResponseException;
+import com.example.exception.validation.ValidationProblemDetail;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of throwing and catching each concrete {@code *ErrorResponseException} with the installed
+ * stack trace policy. Problem details are built once, so the score covers exception construction,
+ * stack trace capture and unwinding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThrowCatchBenchmark {
+
+  private AccessProblemDetail accessProblemDetail;
+  private ServerProblemDetail serverProblemDetail;
+  private AccountSuspendedProblemDetail accountSuspendedProblemDetail;
+  private TransferLimitExceededProblemDetail transferLimitExceededProblemDetail;
+  private ValidationProblemDetail validationProblemDetail;
+
+  @Setup
+  public void setUp() {
+    accessProblemDetail = Fixtures.accessProblemDetail();
+    serverProblemDetail = Fixtures.serverProblemDetail();
+    accountSuspendedProblemDetail = Fixtures.accountSuspendedProblemDetail();
+    transferLimitExceededProblemDetail = Fixtures.transferLimitExceededProblemDetail();
+    validationProblemDetail = Fixtures.validationProblemDetail(2);
+  }
+
+  @Benchmark
+  public ApiErrorResponseException publicAccess() {
+    return throwAndCatch(() -> PublicAccessErrorResponseException.builder()
+        .problemDetail(accessProblemDetail)
+        .build());
+  }
+
+  @Benchmark
+  public ApiErrorResponseException internalAccess() {
+    return throwAndCatch(() -> InternalAccessErrorResponseException.builder()
+        .problemDetail(accessProblemDetail)
+        .build());
+  }
+
+  @Benchmark
+  public ApiErrorResponseException publicServer() {
+    return throwAndCatch(() -> PublicServerErrorResponseException.builder()
+        .problemDetail(serverProblemDetail)
+        .build());
+  }
+
+  @Benchmark
+  public ApiErrorResponseException internalServer() {
+    return throwAndCatch(() -> InternalServerErrorResponseException.builder()
+        .problemDetail(serverProblemDetail)
+        .build());
+  }
+
+  @Benchmark
+  public ApiErrorResponseException accountSuspended() {
+    return throwAndCatch(() -> AccountSuspendedException.builder()
+        .problemDetail(accountSuspendedProblemDetail)
+        .build());
+  }
+
+  @Benchmark
+  public ApiErrorResponseException transferLimitExceeded() {
+    return throwAndCatch(() -> TransferLimitExceededException.builder()
+        .problemDetail(transferLimitExceededProblemDetail)
+        .build());
+  }
+
+  @Benchmark
+  public ApiErrorResponseException internalDomain() {
+    return throwAndCatch(() -> InternalDomainErrorResponseException.builder()
+        .problemDetail(transferLimitExceededProblemDetail)
+        .build());
+  }
+
+  @Benchmark
+  public ApiErrorResponseException publicValidation() {
+    return throwAndCatch(() -> PublicValidationErrorResponseException.builder()
+        .problemDetail(validationProblemDetail)
+        .build());
+  }
+
+  @Benchmark
+  public ApiErrorResponseException internalValidation() {
+    return throwAndCatch(() -> InternalValidationErrorResponseException.builder()
+        .problemDetail(validationProblemDetail)
+        .build());
+  }
+
+  private static ApiErrorResponseException throwAndCatch(
+      Supplier<? extends ApiErrorResponseException> factory) {
+    try {
+      raise(factory);
+      throw new IllegalStateException("unreachable");
+    } catch (ApiErrorResponseException e) {
+      return e;
+    }
+  }
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private static void raise(Supplier<? extends ApiErrorResponseException> factory) {
+    throw factory.get();
+  }
+}
@@ -0,0 +1,80 @@
+package com.example.benchmark;
+
+import com.example.exception.validation.ValidationProblemDetail;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Building, serializing and deserializing validation problem details from 1 to 10k errors. The
+ * {@code write*} benchmarks build and write to an output stream in one go, comparing a collected
+ * error list with a streamed error source, which the module writes as it is produced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationPayloadBenchmark {
+
+  @Param({"1", "10", "100", "1000", "10000"})
+  private int errorCount;
+
+  @Param({"MIXIN", "MODULE"})
+  private String serializer;
+
+  private ObjectMapper objectMapper;
+  private ValidationProblemDetail problemDetail;
+  private byte[] json;
+
+  @Setup
+  public void setUp() throws IOException {
+    objectMapper = Fixtures.objectMapper("MODULE".equals(serializer));
+    problemDetail = Fixtures.validationProblemDetail(errorCount);
+    json = objectMapper.writeValueAsBytes(problemDetail);
+  }
+
+  @Benchmark
+  public ValidationProblemDetail build() {
+    return Fixtures.validationProblemDetail(errorCount);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    return objectMapper.writeValueAsBytes(problemDetail);
+  }
+
+  @Benchmark
+  public ValidationProblemDetail deserialize() throws IOException {
+    return objectMapper.readValue(json, ValidationProblemDetail.class);
+  }
+
+  @Benchmark
+  public void writeCollected() throws IOException {
+    objectMapper.writeValue(OutputStream.nullOutputStream(),
+        Fixtures.validationProblemDetail(errorCount));
+  }
+
+  @Benchmark
+  public void writeStreamed() throws IOException {
+    objectMapper.writeValue(OutputStream.nullOutputStream(), ValidationProblemDetail.builder()
+        .streamErrors(() -> IntStream.range(0, errorCount)
+            .mapToObj(Fixtures::validationError)
+            .iterator())
+        .build());
+  }
+}
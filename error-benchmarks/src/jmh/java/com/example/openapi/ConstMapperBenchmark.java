@@ -0,0 +1,51 @@
+package com.example.openapi;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.ObjectNode;
+
+/**
+ * Cost of {@link ConstMapper} on synthetic models where a small or a large share of the schemas
+ * carry {@code @const} members. Run with the gc profiler to compare the bytes allocated per
+ * conversion, which is what drives peak heap during {@code smithyBuild}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstMapperBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  private int structures;
+
+  @Param({"2", "100"})
+  private int constPercent;
+
+  private final ConstMapper mapper = new ConstMapper();
+  private Model model;
+  private ObjectNode node;
+
+  @Setup
+  public void setUp() {
+    model = SyntheticModels.model(structures, constPercent);
+    node = SyntheticModels.openApi(model);
+  }
+
+  @Benchmark
+  public ObjectNode updateSchemas() {
+    return mapper.updateSchemas(model, node);
+  }
+}
@@ -0,0 +1,69 @@
+package com.example.openapi;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.ServiceShape;
+
+/**
+ * OpenAPI conversion of synthetic services with {@link ErrorExampleExtension} on the classpath,
+ * and each of its mappers on its own. The mappers run against the converted document of the same
+ * model, with {@link ErrorShapeIndex} already cached on it; {@link #errorShapeIndex} measures
+ * building the index separately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpenApiConversionBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  private int shapes;
+
+  private final ConstMapper constMapper = new ConstMapper();
+  private final MemberExampleMapper memberExampleMapper = new MemberExampleMapper();
+  private Model model;
+  private ServiceShape service;
+  private ObjectNode node;
+
+  @Setup
+  public void setUp() {
+    model = SyntheticModels.service(shapes);
+    service = model.expectShape(SyntheticModels.SERVICE, ServiceShape.class);
+    node = OpenApiConversionReport.converter().convertToNode(model);
+  }
+
+  @Benchmark
+  public ObjectNode convert() {
+    return OpenApiConversionReport.converter().convertToNode(model);
+  }
+
+  @Benchmark
+  public ErrorShapeIndex errorShapeIndex() {
+    return new ErrorShapeIndex(model);
+  }
+
+  @Benchmark
+  public ObjectNode constMapper() {
+    return constMapper.updateSchemas(model, node);
+  }
+
+  @Benchmark
+  public ObjectNode memberExampleMapper() {
+    return memberExampleMapper.updateExamples(model, service,
+        MemberExampleMapper.DEFAULT_MAX_DEPTH, node);
+  }
+}
@@ -0,0 +1,97 @@
+package com.example.openapi;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.openapi.OpenApiConfig;
+import software.amazon.smithy.openapi.fromsmithy.OpenApiConverter;
+
+/**
+ * Prints wall time and peak heap of the OpenAPI conversion and of each {@link ErrorExampleExtension}
+ * mapper for synthetic services of 100, 1k and 10k shapes, or of the sizes given as arguments.
+ *
+ * <p>Peak heap is the sum of the heap pools' peak usage while a step runs, measured from a
+ * collected baseline, so it is an upper bound of what the step keeps live. Run it through the
+ * {@code openApiReport} Gradle task.
+ */
+public final class OpenApiConversionReport {
+
+  private static final int WARMUP_RUNS = 3;
+  private static final int MEASURED_RUNS = 5;
+
+  private OpenApiConversionReport() {
+  }
+
+  public static void main(String[] args) {
+    List<Integer> sizes = args.length == 0
+        ? List.of(100, 1_000, 10_000)
+        : Arrays.stream(args).map(Integer::valueOf).toList();
+
+    ConstMapper constMapper = new ConstMapper();
+    MemberExampleMapper memberExampleMapper = new MemberExampleMapper();
+
+    System.out.printf("%8s %8s  %-20s %12s %14s%n", "size", "shapes", "step", "wall (ms)",
+        "peak heap (MB)");
+    for (int size : sizes) {
+      Model model = SyntheticModels.service(size);
+      ServiceShape service = model.expectShape(SyntheticModels.SERVICE, ServiceShape.class);
+      long shapeCount = model.shapes().count();
+
+      ObjectNode node = measure(size, shapeCount, "convert",
+          () -> converter().convertToNode(model));
+      measure(size, shapeCount, "ErrorShapeIndex", () -> new ErrorShapeIndex(model));
+      measure(size, shapeCount, "ConstMapper", () -> constMapper.updateSchemas(model, node));
+      measure(size, shapeCount, "MemberExampleMapper", () -> memberExampleMapper.updateExamples(
+          model, service, MemberExampleMapper.DEFAULT_MAX_DEPTH, node));
+    }
+  }
+
+  static OpenApiConverter converter() {
+    OpenApiConfig config = new OpenApiConfig();
+    config.setService(SyntheticModels.SERVICE);
+    config.setProtocol(ShapeId.from("aws.protocols#restJson1"));
+    config.setJsonContentType("application/json");
+    config.setOnErrorStatusConflict(OpenApiConfig.ErrorStatusConflictHandlingStrategy.ONE_OF);
+    return OpenApiConverter.create().config(config);
+  }
+
+  private static <T> T measure(int size, long shapeCount, String step, Supplier<T> task) {
+    T result = null;
+    for (int i = 0; i < WARMUP_RUNS; i++) {
+      result = task.get();
+    }
+
+    long elapsed = 0;
+    long peak = 0;
+    for (int i = 0; i < MEASURED_RUNS; i++) {
+      List<MemoryPoolMXBean> pools = heapPools();
+      System.gc();
+      pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+      long baseline = pools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+
+      long start = System.nanoTime();
+      result = task.get();
+      elapsed += System.nanoTime() - start;
+
+      long used = pools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+      peak = Math.max(peak, used - baseline);
+    }
+
+    System.out.printf("%8d %8d  %-20s %12.2f %14.1f%n", size, shapeCount, step,
+        elapsed / 1e6 / MEASURED_RUNS, peak / (1024.0 * 1024.0));
+    return result;
+  }
+
+  private static List<MemoryPoolMXBean> heapPools() {
+    return ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP)
+        .toList();
+  }
+}
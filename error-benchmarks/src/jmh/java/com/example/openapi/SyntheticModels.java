@@ -0,0 +1,237 @@
+package com.example.openapi;
+
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.ErrorTrait;
+import software.amazon.smithy.model.traits.MixinTrait;
+
+/**
+ * Generates Smithy models of arbitrary size, shaped like the error catalog in example-service,
+ * together with the OpenAPI document skeleton the converter would hand to the mappers.
+ */
+final class SyntheticModels {
+
+  static final ShapeId SERVICE = ShapeId.from("com.example.synthetic#SyntheticService");
+
+  private static final String NAMESPACE = "com.example.synthetic";
+  private static final int[] DOMAIN_STATUS_CODES = {409, 422, 429};
+
+  private static final String MIXINS = """
+      @mixin
+      structure ProblemDetailMixin {
+          @required
+          type: String
+          @required
+          title: String
+          @required
+          status: Integer
+          @memberExample("Something went wrong")
+          detail: String
+          @memberExample("/api/v1/resources")
+          instance: String
+      }
+      @mixin
+      structure DomainProblemDetailMixin with [ProblemDetailMixin] {
+          @const("/errors/types/domain")
+          @required
+          type: String
+          @required
+          code: String
+      }
+      @mixin
+      structure ValidationErrorDetailMixin {
+          @required
+          @memberExample("Validation error detail")
+          detail: String
+          @required
+          code: String
+          @required
+          @memberExample("field")
+          ref: String
+          attributes: SharedAttributes
+      }
+      structure SharedAttributes {
+          @memberExample("^[a-zA-Z0-9]+$")
+          pattern: String
+      }
+      """;
+
+  private SyntheticModels() {
+  }
+
+  /**
+   * Generates {@code structures} structures, {@code constPercent} percent of which are error
+   * structures whose members carry {@code @const} and {@code @memberExample}; the rest are plain
+   * payload structures without either trait.
+   */
+  static Model model(int structures, int constPercent) {
+    int errorEvery = constPercent > 0 ? Math.max(1, 100 / constPercent) : Integer.MAX_VALUE;
+    StringBuilder idl = new StringBuilder()
+        .append("$version: \"2\"\n")
+        .append("namespace ").append(NAMESPACE).append("\n")
+        .append("use com.example#const\n")
+        .append("use com.example#memberExample\n");
+
+    for (int i = 0; i < structures; i++) {
+      if (i % errorEvery == 0) {
+        appendError(idl, i);
+      } else {
+        appendPayload(idl, i);
+      }
+    }
+
+    return assemble(idl);
+  }
+
+  /**
+   * Generates a restJson1 service sized by {@code shapes}, with one operation per 20 shapes and
+   * one domain error per 10. Domain errors use the problem detail mixins, carry {@code @const}
+   * and {@code @memberExample} members and share an attributes structure; their status codes
+   * collide so that the converter synthesizes error unions. Every operation also declares a
+   * validation error whose {@code errors} member is a list of a union of validation details.
+   */
+  static Model service(int shapes) {
+    int operations = Math.max(1, shapes / 20);
+    int errors = Math.max(1, shapes / 10);
+    int validationDetails = Math.max(2, errors / 10);
+
+    StringBuilder idl = new StringBuilder()
+        .append("$version: \"2\"\n")
+        .append("namespace ").append(NAMESPACE).append("\n")
+        .append("use aws.protocols#restJson1\n")
+        .append("use com.example#const\n")
+        .append("use com.example#memberExample\n")
+        .append(MIXINS);
+
+    idl.append("@restJson1\nservice SyntheticService {\n    version: \"2024-01-01\"\n")
+        .append("    operations: [");
+    for (int i = 0; i < operations; i++) {
+      idl.append(i == 0 ? "" : ", ").append("Operation").append(i);
+    }
+    idl.append("]\n}\n");
+
+    for (int i = 0; i < operations; i++) {
+      idl.append("@readonly\n@http(method: \"GET\", uri: \"/resources").append(i)
+          .append("/{id}\")\noperation Operation").append(i).append(" {\n")
+          .append("    input := {\n        @required\n        @httpLabel\n        id: String\n    }\n")
+          .append("    output := {\n        name: String\n        createdAt: Timestamp\n    }\n")
+          .append("    errors: [ValidationProblemDetail");
+      // Each operation declares three consecutive domain errors, one per colliding status code
+      for (int e = 0; e < Math.min(3, errors); e++) {
+        idl.append(", DomainError").append((i * 3 + e) % errors);
+      }
+      idl.append("]\n}\n");
+    }
+
+    for (int i = 0; i < errors; i++) {
+      appendDomainError(idl, i);
+    }
+    appendValidationError(idl, validationDetails);
+
+    return assemble(idl);
+  }
+
+  private static Model assemble(StringBuilder idl) {
+    return Model.assembler(SyntheticModels.class.getClassLoader())
+        .discoverModels(SyntheticModels.class.getClassLoader())
+        .addUnparsedModel("synthetic.smithy", idl.toString())
+        .assemble()
+        .unwrap();
+  }
+
+  /**
+   * Builds a {@code components/schemas} document with one schema per non-mixin structure, named
+   * like the converter names them: error structures get the {@code ResponseContent} suffix and
+   * every property starts out with a {@code default}.
+   */
+  static ObjectNode openApi(Model model) {
+    ObjectNode.Builder schemas = ObjectNode.builder();
+    for (StructureShape structure : model.getStructureShapes()) {
+      if (structure.hasTrait(MixinTrait.class)
+          || !structure.getId().getNamespace().equals(NAMESPACE)) {
+        continue;
+      }
+
+      ObjectNode.Builder properties = ObjectNode.builder();
+      for (MemberShape member : structure.getAllMembers().values()) {
+        properties.withMember(member.getMemberName(), ObjectNode.builder()
+            .withMember("type", "string")
+            .withMember("default", "")
+            .build());
+      }
+
+      String name = structure.getId().getName()
+          + (structure.hasTrait(ErrorTrait.class) ? "ResponseContent" : "");
+      schemas.withMember(name, ObjectNode.builder()
+          .withMember("type", "object")
+          .withMember("properties", properties.build())
+          .build());
+    }
+
+    return ObjectNode.builder()
+        .withMember("openapi", "3.0.2")
+        .withMember("components", ObjectNode.builder()
+            .withMember("schemas", schemas.build())
+            .build())
+        .build();
+  }
+
+  private static void appendError(StringBuilder idl, int i) {
+    idl.append("@error(\"client\")\n")
+        .append("@httpError(422)\n")
+        .append("structure Error").append(i).append(" {\n")
+        .append("    @const(\"/errors/types/domain\")\n    type: String\n")
+        .append("    @const(\"Error ").append(i).append("\")\n    title: String\n")
+        .append("    @const(422)\n    status: Integer\n")
+        .append("    @memberExample(\"Error ").append(i).append(" happened\")\n    detail: String\n")
+        .append("    @const(\"error_").append(i).append("\")\n    code: String\n")
+        .append("}\n");
+  }
+
+  private static void appendDomainError(StringBuilder idl, int i) {
+    idl.append("structure DomainError").append(i).append("Attributes {\n")
+        .append("    @memberExample(\"Reason ").append(i).append("\")\n    reason: String\n")
+        .append("    shared: SharedAttributes\n")
+        .append("}\n")
+        .append("@error(\"client\")\n")
+        .append("@httpError(").append(DOMAIN_STATUS_CODES[i % DOMAIN_STATUS_CODES.length]).append(")\n")
+        .append("structure DomainError").append(i).append(" with [DomainProblemDetailMixin] {\n")
+        .append("    @const(\"Domain Error ").append(i).append("\")\n    @required\n    title: String\n")
+        .append("    @const(\"domain.error_").append(i).append("\")\n    @required\n    code: String\n")
+        .append("    @required\n    attributes: DomainError").append(i).append("Attributes\n")
+        .append("}\n");
+  }
+
+  private static void appendValidationError(StringBuilder idl, int details) {
+    idl.append("union ValidationErrorDetailUnion {\n");
+    for (int i = 0; i < details; i++) {
+      idl.append("    detail").append(i).append(": ValidationErrorDetail").append(i).append("\n");
+    }
+    idl.append("}\n")
+        .append("list ValidationErrorDetailUnionList {\n    member: ValidationErrorDetailUnion\n}\n");
+    for (int i = 0; i < details; i++) {
+      idl.append("structure ValidationErrorDetail").append(i)
+          .append(" with [ValidationErrorDetailMixin] {\n")
+          .append("    @const(\"validation_").append(i).append("\")\n    @required\n    code: String\n")
+          .append("}\n");
+    }
+    idl.append("@error(\"client\")\n@httpError(400)\n")
+        .append("structure ValidationProblemDetail with [ProblemDetailMixin] {\n")
+        .append("    @const(\"/errors/types/validation\")\n    @required\n    type: String\n")
+        .append("    @const(\"Validation Problem\")\n    @required\n    title: String\n")
+        .append("    @required\n    errors: ValidationErrorDetailUnionList\n")
+        .append("}\n");
+  }
+
+  private static void appendPayload(StringBuilder idl, int i) {
+    idl.append("structure Payload").append(i).append(" {\n")
+        .append("    id: String\n")
+        .append("    name: String\n")
+        .append("    createdAt: Timestamp\n")
+        .append("    count: Integer\n")
+        .append("}\n");
+  }
+}
@@ -3,6 +3,9 @@ plugins {
 }
 
 val springBootVersion = "4.0.3"
+val exampleService = project(":example-service")
+val exampleServiceProjections =
+    exampleService.layout.buildDirectory.dir("smithyprojections/${exampleService.name}")
 
 java {
     sourceCompatibility = JavaVersion.VERSION_21
@@ -13,13 +16,35 @@ dependencies {
     // Spring Boot dependencies for ErrorResponseException and ProblemDetail
     implementation("org.springframework.boot:spring-boot-starter-web:$springBootVersion")
 
+    // Jackson 2 databind for the ProblemDetail serialization module
+    implementation("com.fasterxml.jackson.core:jackson-databind:2.17.0")
+
+    // Reactor for the WebFlux exception handler, provided by reactive services
+    compileOnly("io.projectreactor:reactor-core:3.8.3")
+
+    // Micrometer for the error metrics binder, provided by services that export metrics
+    compileOnly("io.micrometer:micrometer-core:1.16.3")
+
     // Test dependencies
     testImplementation("org.junit.jupiter:junit-jupiter:5.10.2")
     testImplementation("org.assertj:assertj-core:3.25.3")
-    testImplementation("com.fasterxml.jackson.core:jackson-databind:2.17.0")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // Mock servlet API, at the Spring Framework version of Spring Boot 4.0.3
+    testImplementation("org.springframework:spring-test:7.0.5")
+    testImplementation("io.projectreactor:reactor-core:3.8.3")
+    testImplementation("io.micrometer:micrometer-core:1.16.3")
 }
 
 tasks.test {
     useJUnitPlatform()
 }
+
+// The error catalog the error-catalog Smithy plugin compiles from the example service model, so
+// ErrorCatalogTest reads the model as it currently is
+tasks.processTestResources {
+    dependsOn(":example-service:smithyBuild")
+    from(exampleServiceProjections.map { it.dir("error-catalog/error-catalog") }) {
+        into("META-INF")
+    }
+}
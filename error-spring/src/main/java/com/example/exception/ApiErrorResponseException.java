@@ -1,5 +1,6 @@
 package com.example.exception;
 
+import java.util.Objects;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ProblemDetail;
 import org.springframework.web.ErrorResponseException;
@@ -7,15 +8,84 @@ import org.springframework.web.ErrorResponseException;
 /**
  * Base exception for all API errors that follow RFC 7807 Problem Details. Extends Spring Boot's
  * ErrorResponseException to integrate with Spring's error handling.
+ *
+ * <p>Whether an exception captures its stack trace is decided by the installed
+ * {@link StackTracePolicy}, which defaults to {@link StackTracePolicy#fullTraces()}.
+ *
+ * <p>Built with a frozen {@link SharedProblemDetail}, the exception's {@code getBody()} is a
+ * mutable copy of it, which Spring's handlers may fill in as for any other body, and the frozen
+ * instance is kept as {@link #getSharedBody()}.
  */
 public abstract class ApiErrorResponseException extends ErrorResponseException {
 
+  private static volatile StackTracePolicy stackTracePolicy = StackTracePolicy.fullTraces();
+
+  // Assigned from fillInStackTrace, during the Throwable constructor: must not have an initializer
+  private long traceFingerprint;
+
+  private final SharedProblemDetail sharedBody;
+
   protected ApiErrorResponseException(ProblemDetail problemDetail) {
-    super(HttpStatusCode.valueOf(problemDetail.getStatus()), problemDetail, null);
+    this(problemDetail, null);
   }
 
   protected ApiErrorResponseException(ProblemDetail problemDetail, Throwable cause) {
-    super(HttpStatusCode.valueOf(problemDetail.getStatus()), problemDetail, cause);
+    super(HttpStatusCode.valueOf(problemDetail.getStatus()), unfrozen(problemDetail), cause);
+    this.sharedBody = problemDetail instanceof SharedProblemDetail shared && shared.isFrozen()
+        ? shared : null;
+  }
+
+  private static ProblemDetail unfrozen(ProblemDetail problemDetail) {
+    return problemDetail instanceof SharedProblemDetail shared && shared.isFrozen()
+        ? shared.copy() : problemDetail;
+  }
+
+  public static StackTracePolicy getStackTracePolicy() {
+    return stackTracePolicy;
+  }
+
+  public static void setStackTracePolicy(StackTracePolicy policy) {
+    stackTracePolicy = Objects.requireNonNull(policy, "policy");
+  }
+
+  /**
+   * The frozen body this exception was built with, as long as {@code getBody()} has not been
+   * modified since, so its pre-rendered bytes can be written in its place; otherwise {@code null}.
+   */
+  public SharedProblemDetail getSharedBody() {
+    return sharedBody != null && sharedBody.equals(getBody()) ? sharedBody : null;
+  }
+
+  /**
+   * Identifies the stack trace captured in {@link StackTraceMode#ADAPTIVE} mode: this exception's
+   * own when it captured one, otherwise the last one captured for its class, which a skipped
+   * exception's log record can point to. Zero in the other modes.
+   */
+  public long getTraceFingerprint() {
+    return traceFingerprint;
+  }
+
+  /**
+   * Skips the stack walk when the installed policy marks this exception's family as stackless, or
+   * as adaptive and the throw is not sampled. Called from the {@link Throwable} constructor, so it
+   * must only rely on static state.
+   */
+  @Override
+  public Throwable fillInStackTrace() {
+    StackTracePolicy policy = stackTracePolicy;
+    StackTraceMode mode = policy.modeFor(getClass());
+    if (mode == StackTraceMode.STACKLESS) {
+      return this;
+    }
+    if (mode == StackTraceMode.ADAPTIVE) {
+      StackTraceSampler sampler = policy.samplerFor(getClass());
+      if (!sampler.shouldCapture()) {
+        traceFingerprint = sampler.lastFingerprint();
+        return this;
+      }
+      traceFingerprint = sampler.capture();
+    }
+    return super.fillInStackTrace();
   }
 
   public abstract static class Builder<P extends ProblemDetail, T extends ApiErrorResponseException> {
@@ -0,0 +1,153 @@
+package com.example.exception;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parsed detail message with {@code {}} placeholders, e.g. {@code "{} must be a valid email
+ * address"}. Meant to be held in a constant and bound to arguments with {@link #format}, which
+ * defers rendering until the detail is actually read or serialized. Errors that are caught and
+ * translated internally never pay for the string. A template without placeholders is static and
+ * formats to its pattern without any rendering.
+ */
+public final class DetailTemplate {
+
+  private static final String PLACEHOLDER = "{}";
+
+  private final String pattern;
+  private final String[] literals;
+
+  private DetailTemplate(String pattern, String[] literals) {
+    this.pattern = pattern;
+    this.literals = literals;
+  }
+
+  public static DetailTemplate of(String pattern) {
+    List<String> literals = new ArrayList<>();
+    int start = 0;
+    for (int index = pattern.indexOf(PLACEHOLDER); index >= 0;
+        index = pattern.indexOf(PLACEHOLDER, start)) {
+      literals.add(pattern.substring(start, index));
+      start = index + PLACEHOLDER.length();
+    }
+    literals.add(pattern.substring(start));
+    return new DetailTemplate(pattern, literals.toArray(String[]::new));
+  }
+
+  public int getArgumentCount() {
+    return literals.length - 1;
+  }
+
+  /**
+   * Binds the template to {@code args} without rendering it. The result renders once, on its
+   * first {@code toString()}, and returns the cached string afterwards; a static template returns
+   * its pattern directly. Strings and boxed primitives are kept as they are, any other argument is
+   * snapshotted with {@link String#valueOf(Object)} here, so a {@code StringBuilder} or DTO that
+   * changes after the error is thrown does not change its detail.
+   *
+   * @throws IllegalArgumentException if the number of arguments does not match the placeholders
+   */
+  public CharSequence format(Object... args) {
+    if (args.length != getArgumentCount()) {
+      throw new IllegalArgumentException("Template '" + pattern + "' expects "
+          + getArgumentCount() + " arguments but got " + args.length);
+    }
+    return literals.length == 1 ? pattern : new Detail(this, snapshot(args));
+  }
+
+  /**
+   * Renders the template with {@code args} right away.
+   */
+  public String render(Object... args) {
+    return format(args).toString();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return this == other || (other instanceof DetailTemplate that && pattern.equals(that.pattern));
+  }
+
+  @Override
+  public int hashCode() {
+    return pattern.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return pattern;
+  }
+
+  private static Object[] snapshot(Object[] args) {
+    Object[] copy = new Object[args.length];
+    for (int i = 0; i < args.length; i++) {
+      Object arg = args[i];
+      copy[i] = isImmutable(arg) ? arg : String.valueOf(arg);
+    }
+    return copy;
+  }
+
+  private static boolean isImmutable(Object arg) {
+    return arg instanceof String || arg instanceof Integer || arg instanceof Long
+        || arg instanceof Boolean || arg instanceof Character || arg instanceof Short
+        || arg instanceof Byte || arg instanceof Double || arg instanceof Float;
+  }
+
+  private String renderNow(Object[] args) {
+    StringBuilder builder = new StringBuilder(pattern.length() + 16 * args.length);
+    builder.append(literals[0]);
+    for (int i = 0; i < args.length; i++) {
+      builder.append(args[i]).append(literals[i + 1]);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * A template bound to its arguments, rendered on first use.
+   */
+  private static final class Detail implements CharSequence {
+
+    private final DetailTemplate template;
+    private final Object[] args;
+    private volatile String rendered;
+
+    private Detail(DetailTemplate template, Object[] args) {
+      this.template = template;
+      this.args = args;
+    }
+
+    @Override
+    public String toString() {
+      String value = rendered;
+      if (value == null) {
+        value = template.renderNow(args);
+        rendered = value;
+      }
+      return value;
+    }
+
+    @Override
+    public int length() {
+      return toString().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+      return toString().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return toString().subSequence(start, end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return this == other || (other instanceof Detail that && toString().equals(that.toString()));
+    }
+
+    @Override
+    public int hashCode() {
+      return toString().hashCode();
+    }
+  }
+}
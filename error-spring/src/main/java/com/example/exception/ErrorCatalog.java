@@ -0,0 +1,188 @@
+package com.example.exception;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Error code metadata compiled from the Smithy model by the {@code error-catalog} build plugin:
+ * HTTP status, type URI and title per error code.
+ *
+ * The catalog file carries a minimal perfect hash over the codes, so resolving a code is two hash
+ * computations and one comparison, with no scanning of classes at startup. Instances are
+ * immutable and safe to share.
+ *
+ * <p>A service packages the catalog of its model at {@link #DEFAULT_RESOURCE} and reads it with
+ * {@link #getDefault()}, ideally once at startup, e.g. from a bean, so a missing or corrupt catalog
+ * fails the start rather than the first lookup.
+ */
+public final class ErrorCatalog {
+
+  /**
+   * Classpath location the catalog is conventionally packaged at.
+   */
+  public static final String DEFAULT_RESOURCE = "META-INF/error-catalog.bin";
+
+  private static final int MAGIC = 0x45525243;
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = 16;
+  private static final int ENTRY_BYTES = 16;
+
+  private final int[] seeds;
+  private final int[] slots;
+  private final Entry[] entries;
+
+  private ErrorCatalog(int[] seeds, int[] slots, Entry[] entries) {
+    this.seeds = seeds;
+    this.slots = slots;
+    this.entries = entries;
+  }
+
+  /**
+   * Returns the catalog at {@link #DEFAULT_RESOURCE} on the class path of this class, loaded on the
+   * first call.
+   *
+   * @throws IllegalStateException if there is no catalog at {@link #DEFAULT_RESOURCE} or it cannot
+   *     be read
+   */
+  public static ErrorCatalog getDefault() {
+    return DefaultHolder.CATALOG;
+  }
+
+  /**
+   * Decodes the catalog at {@link #DEFAULT_RESOURCE} on the class path of {@code classLoader}.
+   */
+  public static ErrorCatalog load(ClassLoader classLoader) throws IOException {
+    try (InputStream in = classLoader.getResourceAsStream(DEFAULT_RESOURCE)) {
+      if (in == null) {
+        throw new FileNotFoundException("No error catalog at " + DEFAULT_RESOURCE);
+      }
+      return load(in);
+    }
+  }
+
+  /**
+   * Memory-maps and decodes the catalog at {@code path}.
+   */
+  public static ErrorCatalog load(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Decodes the catalog from a stream, typically a classpath resource that cannot be mapped.
+   */
+  public static ErrorCatalog load(InputStream in) throws IOException {
+    return decode(ByteBuffer.wrap(in.readAllBytes()));
+  }
+
+  /**
+   * Returns the metadata of an error code, or empty if the code is not in the catalog.
+   */
+  public Optional<Entry> find(String code) {
+    if (entries.length == 0) {
+      return Optional.empty();
+    }
+    int seed = seeds[index(hash(code, 0), seeds.length)];
+    Entry entry = entries[slots[index(hash(code, seed), slots.length)]];
+    return entry.code().equals(code) ? Optional.of(entry) : Optional.empty();
+  }
+
+  public Optional<Entry> find(ErrorCode code) {
+    return find(code.getCode());
+  }
+
+  public int size() {
+    return entries.length;
+  }
+
+  private static ErrorCatalog decode(ByteBuffer buffer) throws IOException {
+    if (buffer.remaining() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+      throw new IOException("Not an error catalog");
+    }
+    int version = buffer.getInt(4);
+    if (version != VERSION) {
+      throw new IOException("Unsupported error catalog version " + version);
+    }
+    int entryCount = buffer.getInt(8);
+    int bucketCount = buffer.getInt(12);
+    int poolStart = HEADER_BYTES + 4 * (bucketCount + entryCount) + ENTRY_BYTES * entryCount;
+    if (entryCount < 0 || bucketCount < 1 || poolStart > buffer.limit()) {
+      throw new IOException("Truncated error catalog");
+    }
+
+    int position = HEADER_BYTES;
+    int[] seeds = new int[bucketCount];
+    for (int i = 0; i < bucketCount; i++, position += 4) {
+      seeds[i] = buffer.getInt(position);
+    }
+    int[] slots = new int[entryCount];
+    for (int i = 0; i < entryCount; i++, position += 4) {
+      slots[i] = buffer.getInt(position);
+    }
+    Entry[] entries = new Entry[entryCount];
+    for (int i = 0; i < entryCount; i++, position += ENTRY_BYTES) {
+      String type = string(buffer, poolStart + buffer.getInt(position + 8));
+      entries[i] = new Entry(
+          string(buffer, poolStart + buffer.getInt(position + 4)),
+          buffer.getInt(position),
+          type.isEmpty() ? null : URI.create(type),
+          string(buffer, poolStart + buffer.getInt(position + 12)));
+    }
+    return new ErrorCatalog(seeds, slots, entries);
+  }
+
+  private static String string(ByteBuffer buffer, int offset) {
+    int length = Short.toUnsignedInt(buffer.getShort(offset));
+    byte[] utf8 = new byte[length];
+    buffer.get(offset + 2, utf8);
+    return new String(utf8, StandardCharsets.UTF_8);
+  }
+
+  private static int index(int hash, int size) {
+    return (hash & 0x7FFFFFFF) % size;
+  }
+
+  // Must match ErrorCatalogWriter in error-trait
+  private static int hash(String key, int seed) {
+    int h = seed ^ 0x811C9DC5;
+    for (int i = 0; i < key.length(); i++) {
+      h ^= key.charAt(i);
+      h *= 0x01000193;
+    }
+    h ^= h >>> 16;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    h *= 0xC2B2AE35;
+    h ^= h >>> 16;
+    return h;
+  }
+
+  private static final class DefaultHolder {
+
+    private static final ErrorCatalog CATALOG = loadDefault();
+
+    private static ErrorCatalog loadDefault() {
+      try {
+        return load(ErrorCatalog.class.getClassLoader());
+      } catch (IOException e) {
+        throw new IllegalStateException("Cannot load error catalog from " + DEFAULT_RESOURCE, e);
+      }
+    }
+  }
+
+  /**
+   * Metadata of one error code. {@code type} is null and {@code title} empty when the model does
+   * not fix them with @const.
+   */
+  public record Entry(String code, int status, URI type, String title) {
+  }
+}
@@ -0,0 +1,126 @@
+package com.example.exception;
+
+import java.util.List;
+
+/**
+ * Immutable open-addressing table from wire code strings to {@link ErrorCode} constants. Lookups
+ * hash and compare the characters of the input in place, so a code can be resolved straight from
+ * a parser's text buffer or a region of a larger string without allocating a {@link String}.
+ *
+ * @param <C> the error code type
+ */
+public final class ErrorCodeTable<C extends ErrorCode> {
+
+  private final Object[] codes;
+  private final String[] keys;
+  private final int mask;
+
+  private ErrorCodeTable(List<? extends C> entries) {
+    int capacity = Integer.highestOneBit(Math.max(1, entries.size()) * 4 - 1) << 1;
+    this.codes = new Object[capacity];
+    this.keys = new String[capacity];
+    this.mask = capacity - 1;
+    for (C entry : entries) {
+      String key = entry.getCode();
+      int slot = mix(key.hashCode()) & mask;
+      while (keys[slot] != null) {
+        if (keys[slot].equals(key)) {
+          throw new IllegalArgumentException("Duplicate error code: " + key);
+        }
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = key;
+      codes[slot] = entry;
+    }
+  }
+
+  public static <C extends ErrorCode> ErrorCodeTable<C> of(List<? extends C> codes) {
+    return new ErrorCodeTable<>(codes);
+  }
+
+  /**
+   * Returns the constant for {@code code}, or null if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  public C get(CharSequence code) {
+    if (!(code instanceof String string)) {
+      return get(code, 0, code.length());
+    }
+    // Whole strings use their cached hash code and intrinsic equals
+    for (int slot = mix(string.hashCode()) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot].equals(string)) {
+        return (C) codes[slot];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the constant for the characters of {@code code} in {@code [start, end)}, or null.
+   */
+  @SuppressWarnings("unchecked")
+  public C get(CharSequence code, int start, int end) {
+    for (int slot = hash(code, start, end) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+      String key = keys[slot];
+      if (key.length() == end - start && regionEquals(key, code, start)) {
+        return (C) codes[slot];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the constant for {@code length} characters of {@code chars} from {@code offset}, as
+   * exposed by {@code JsonParser.getTextCharacters()}, or null.
+   */
+  @SuppressWarnings("unchecked")
+  public C get(char[] chars, int offset, int length) {
+    int h = 0;
+    for (int i = offset; i < offset + length; i++) {
+      h = 31 * h + chars[i];
+    }
+    for (int slot = mix(h) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+      String key = keys[slot];
+      if (key.length() == length && regionEquals(key, chars, offset)) {
+        return (C) codes[slot];
+      }
+    }
+    return null;
+  }
+
+  private static boolean regionEquals(String key, CharSequence code, int start) {
+    for (int i = 0; i < key.length(); i++) {
+      if (key.charAt(i) != code.charAt(start + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean regionEquals(String key, char[] chars, int offset) {
+    for (int i = 0; i < key.length(); i++) {
+      if (key.charAt(i) != chars[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Same polynomial as {@link String#hashCode()}, so regions hash like the whole string would.
+   */
+  private static int hash(CharSequence code, int start, int end) {
+    int h = 0;
+    for (int i = start; i < end; i++) {
+      h = 31 * h + code.charAt(i);
+    }
+    return mix(h);
+  }
+
+  private static int mix(int h) {
+    h ^= h >>> 16;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    return h;
+  }
+}
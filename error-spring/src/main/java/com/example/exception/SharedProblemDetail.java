@@ -0,0 +1,146 @@
+package com.example.exception;
+
+import com.example.exception.access.AccessProblemDetail;
+import com.example.exception.server.ServerProblemDetail;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+/**
+ * Problem detail that can be frozen and shared. A frozen instance's setters throw, so it can be
+ * cached by a {@link Cache} and handed to any number of threads. {@link AccessProblemDetail} and
+ * {@link ServerProblemDetail} builders offer one from {@code buildShared()}.
+ *
+ * <p>A frozen instance is never handed to Spring: {@link ApiErrorResponseException} exposes a
+ * mutable {@link #copy()} from {@code getBody()}, so Spring may set {@code instance} or
+ * {@code detail} on it as usual, and keeps the frozen instance for the pre-rendered bytes of
+ * {@code ProblemDetailExceptionResolver} and {@code ProblemDetailWebExceptionHandler}.
+ */
+public abstract class SharedProblemDetail extends ProblemDetail {
+
+  private volatile boolean frozen;
+
+  protected SharedProblemDetail() {
+    super();
+  }
+
+  protected SharedProblemDetail(HttpStatus status) {
+    super(status.value());
+  }
+
+  /**
+   * Copy constructor, the copy is not frozen.
+   */
+  protected SharedProblemDetail(SharedProblemDetail other) {
+    super(other);
+  }
+
+  /**
+   * Whether this instance is shared and rejects modification.
+   */
+  @JsonIgnore
+  public boolean isFrozen() {
+    return frozen;
+  }
+
+  /**
+   * Returns a copy of this problem detail that is not frozen.
+   */
+  public abstract SharedProblemDetail copy();
+
+  @Override
+  public void setType(URI type) {
+    checkNotFrozen();
+    super.setType(type);
+  }
+
+  @Override
+  public void setTitle(String title) {
+    checkNotFrozen();
+    super.setTitle(title);
+  }
+
+  @Override
+  public void setStatus(HttpStatus status) {
+    checkNotFrozen();
+    super.setStatus(status);
+  }
+
+  @Override
+  public void setStatus(int status) {
+    checkNotFrozen();
+    super.setStatus(status);
+  }
+
+  @Override
+  public void setDetail(String detail) {
+    checkNotFrozen();
+    super.setDetail(detail);
+  }
+
+  @Override
+  public void setInstance(URI instance) {
+    checkNotFrozen();
+    super.setInstance(instance);
+  }
+
+  @Override
+  public void setProperty(String name, Object value) {
+    checkNotFrozen();
+    super.setProperty(name, value);
+  }
+
+  @Override
+  public void setProperties(Map<String, Object> properties) {
+    checkNotFrozen();
+    super.setProperties(properties);
+  }
+
+  private void checkNotFrozen() {
+    if (frozen) {
+      throw new UnsupportedOperationException(
+          "Shared " + getClass().getSimpleName() + " is frozen, modify a copy() of it instead");
+    }
+  }
+
+  /**
+   * Frozen instances keyed by status, title and detail. Up to {@value #MAX_SHARED} distinct
+   * combinations are cached; further ones are frozen but not cached.
+   */
+  protected static final class Cache<P extends SharedProblemDetail> {
+
+    private static final int MAX_SHARED = 256;
+
+    private final Map<Key, P> shared = new ConcurrentHashMap<>();
+
+    public Cache() {
+    }
+
+    /**
+     * Returns the frozen instance for {@code status}, {@code title} and {@code detail}, freezing
+     * one from {@code factory} if there is none yet.
+     */
+    public P get(HttpStatus status, String title, String detail, Supplier<P> factory) {
+      Key key = new Key(status, title, detail);
+      P problemDetail = shared.get(key);
+      if (problemDetail == null) {
+        problemDetail = factory.get();
+        ((SharedProblemDetail) problemDetail).frozen = true;
+        if (shared.size() < MAX_SHARED) {
+          P existing = shared.putIfAbsent(key, problemDetail);
+          if (existing != null) {
+            problemDetail = existing;
+          }
+        }
+      }
+      return problemDetail;
+    }
+  }
+
+  private record Key(HttpStatus status, String title, String detail) {
+  }
+}
@@ -0,0 +1,27 @@
+package com.example.exception;
+
+/**
+ * Controls whether an {@link ApiErrorResponseException} captures a stack trace when it is created.
+ */
+public enum StackTraceMode {
+
+  /**
+   * Capture the full stack trace, as any other {@link Throwable} does.
+   */
+  FULL,
+
+  /**
+   * Skip stack trace capture. Suited for expected, client-caused errors where the trace carries no
+   * diagnostic value and filling it in dominates the cost of the throw.
+   */
+  STACKLESS,
+
+  /**
+   * Capture full stack traces while the exception class is thrown at most
+   * {@link StackTracePolicy.Builder#adaptiveThreshold(int)} times per second. Above that, only one
+   * in {@link StackTracePolicy.Builder#adaptiveSampleRate(int)} throws captures its trace; the others
+   * skip capture and carry the {@link ApiErrorResponseException#getTraceFingerprint() fingerprint}
+   * of the last one that did. Suited for server errors, whose volume spikes when a dependency fails.
+   */
+  ADAPTIVE
+}
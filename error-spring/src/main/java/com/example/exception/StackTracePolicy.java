@@ -0,0 +1,154 @@
+package com.example.exception;
+
+import com.example.exception.access.PublicAccessErrorResponseException;
+import com.example.exception.domain.InternalDomainErrorResponseException;
+import com.example.exception.domain.PublicDomainErrorResponseException;
+import com.example.exception.server.ServerErrorResponseException;
+import com.example.exception.validation.PublicValidationErrorResponseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable mapping from exception families to a {@link StackTraceMode}. A family is any
+ * {@link ApiErrorResponseException} subtype; the mode of a concrete exception is the one registered
+ * for its closest superclass, or the default mode when none is registered. Resolved modes are cached
+ * per concrete class, so the lookup on the throw path is a single {@link ClassValue} read.
+ *
+ * <p>Each concrete class in {@link StackTraceMode#ADAPTIVE} mode tracks its own throw rate, from
+ * when the policy is installed.
+ */
+public final class StackTracePolicy {
+
+  private static final StackTracePolicy FULL = builder().build();
+
+  private static final StackTracePolicy STACKLESS_PUBLIC = builder()
+      .mode(PublicAccessErrorResponseException.class, StackTraceMode.STACKLESS)
+      .mode(PublicDomainErrorResponseException.class, StackTraceMode.STACKLESS)
+      .mode(PublicValidationErrorResponseException.class, StackTraceMode.STACKLESS)
+      .build();
+
+  private static final StackTracePolicy ADAPTIVE = builder()
+      .mode(PublicAccessErrorResponseException.class, StackTraceMode.STACKLESS)
+      .mode(PublicDomainErrorResponseException.class, StackTraceMode.STACKLESS)
+      .mode(PublicValidationErrorResponseException.class, StackTraceMode.STACKLESS)
+      .mode(InternalDomainErrorResponseException.class, StackTraceMode.ADAPTIVE)
+      .mode(ServerErrorResponseException.class, StackTraceMode.ADAPTIVE)
+      .build();
+
+  private final StackTraceMode defaultMode;
+  private final Map<Class<?>, StackTraceMode> modes;
+  private final int adaptiveThreshold;
+  private final int adaptiveSampleRate;
+  private final ClassValue<StackTraceMode> resolved = new ClassValue<>() {
+    @Override
+    protected StackTraceMode computeValue(Class<?> type) {
+      for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+        StackTraceMode mode = modes.get(current);
+        if (mode != null) {
+          return mode;
+        }
+      }
+      return defaultMode;
+    }
+  };
+  private final ClassValue<StackTraceSampler> samplers = new ClassValue<>() {
+    @Override
+    protected StackTraceSampler computeValue(Class<?> type) {
+      return new StackTraceSampler(adaptiveThreshold, adaptiveSampleRate);
+    }
+  };
+
+  private StackTracePolicy(Builder builder) {
+    this.defaultMode = builder.defaultMode;
+    this.modes = Map.copyOf(builder.modes);
+    this.adaptiveThreshold = builder.adaptiveThreshold;
+    this.adaptiveSampleRate = builder.adaptiveSampleRate;
+  }
+
+  /**
+   * Policy that captures full stack traces for every exception.
+   */
+  public static StackTracePolicy fullTraces() {
+    return FULL;
+  }
+
+  /**
+   * Policy that skips stack traces for the {@code Public*} access, domain and validation families,
+   * and keeps full traces for {@code Internal*} exceptions and all server errors.
+   */
+  public static StackTracePolicy stacklessPublic() {
+    return STACKLESS_PUBLIC;
+  }
+
+  /**
+   * Like {@link #stacklessPublic()}, but samples the traces of server errors and internal domain
+   * errors adaptively, with the default threshold and sample rate.
+   */
+  public static StackTracePolicy adaptive() {
+    return ADAPTIVE;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public StackTraceMode modeFor(Class<? extends ApiErrorResponseException> type) {
+    return resolved.get(type);
+  }
+
+  StackTraceSampler samplerFor(Class<? extends ApiErrorResponseException> type) {
+    return samplers.get(type);
+  }
+
+  public static final class Builder {
+
+    private static final int DEFAULT_ADAPTIVE_THRESHOLD = 100;
+    private static final int DEFAULT_ADAPTIVE_SAMPLE_RATE = 100;
+
+    private StackTraceMode defaultMode = StackTraceMode.FULL;
+    private final Map<Class<?>, StackTraceMode> modes = new HashMap<>();
+    private int adaptiveThreshold = DEFAULT_ADAPTIVE_THRESHOLD;
+    private int adaptiveSampleRate = DEFAULT_ADAPTIVE_SAMPLE_RATE;
+
+    private Builder() {
+    }
+
+    public Builder defaultMode(StackTraceMode defaultMode) {
+      this.defaultMode = defaultMode;
+      return this;
+    }
+
+    public Builder mode(Class<? extends ApiErrorResponseException> family, StackTraceMode mode) {
+      this.modes.put(family, mode);
+      return this;
+    }
+
+    /**
+     * Sets how many times per second an exception class in {@link StackTraceMode#ADAPTIVE} mode can
+     * be thrown with every trace captured. Defaults to 100.
+     */
+    public Builder adaptiveThreshold(int throwsPerSecond) {
+      if (throwsPerSecond < 0) {
+        throw new IllegalArgumentException(
+            "adaptiveThreshold must not be negative: " + throwsPerSecond);
+      }
+      this.adaptiveThreshold = throwsPerSecond;
+      return this;
+    }
+
+    /**
+     * Sets how many throws above the threshold share one captured trace. Defaults to 100.
+     */
+    public Builder adaptiveSampleRate(int oneIn) {
+      if (oneIn < 1) {
+        throw new IllegalArgumentException("adaptiveSampleRate must be positive: " + oneIn);
+      }
+      this.adaptiveSampleRate = oneIn;
+      return this;
+    }
+
+    public StackTracePolicy build() {
+      return new StackTracePolicy(this);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.example.exception;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Decides, for one exception class in {@link StackTraceMode#ADAPTIVE} mode, which throws capture a
+ * stack trace. Throws are counted in a one-second sliding window of ten slots; each slot packs the
+ * epoch it counts for and its count into a single long updated by compare-and-set, so a slot is
+ * reset and incremented atomically without locking.
+ */
+final class StackTraceSampler {
+
+  private static final int SLOTS = 10;
+  private static final long SLOT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final int COUNT_BITS = 24;
+  private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+  // Shared by every sampler so fingerprints are unique across exception classes
+  private static final AtomicLong FINGERPRINTS = new AtomicLong();
+
+  private final int threshold;
+  private final int sampleRate;
+  private final long origin = System.nanoTime();
+  private final AtomicLongArray slots = new AtomicLongArray(SLOTS);
+  private final AtomicLong overThreshold = new AtomicLong();
+  private volatile long lastFingerprint;
+
+  StackTraceSampler(int threshold, int sampleRate) {
+    this.threshold = threshold;
+    this.sampleRate = sampleRate;
+  }
+
+  /**
+   * Counts a throw and returns whether it should capture its stack trace: always while the rate
+   * over the last second is within the threshold, one in {@code sampleRate} throws above it.
+   */
+  boolean shouldCapture() {
+    long rate = increment((System.nanoTime() - origin) / SLOT_NANOS);
+    return rate <= threshold || overThreshold.getAndIncrement() % sampleRate == 0;
+  }
+
+  /**
+   * Returns a new fingerprint for a throw that captures its trace.
+   */
+  long capture() {
+    long fingerprint = FINGERPRINTS.incrementAndGet();
+    lastFingerprint = fingerprint;
+    return fingerprint;
+  }
+
+  /**
+   * Returns the fingerprint of the last throw that captured its trace.
+   */
+  long lastFingerprint() {
+    return lastFingerprint;
+  }
+
+  /**
+   * Counts a throw in the slot of {@code epoch} and returns the count of the whole window.
+   */
+  private long increment(long epoch) {
+    int index = (int) (epoch % SLOTS);
+    long current;
+    long updated;
+    do {
+      current = slots.get(index);
+      if (current >>> COUNT_BITS != epoch) {
+        updated = epoch << COUNT_BITS | 1;
+      } else if ((current & COUNT_MASK) != COUNT_MASK) {
+        updated = current + 1;
+      } else {
+        break;
+      }
+    } while (!slots.compareAndSet(index, current, updated));
+
+    long total = 0;
+    for (int slot = 0; slot < SLOTS; slot++) {
+      long value = slots.get(slot);
+      if (epoch - (value >>> COUNT_BITS) < SLOTS) {
+        total += value & COUNT_MASK;
+      }
+    }
+    return total;
+  }
+}
@@ -5,6 +5,9 @@ import com.example.exception.ApiErrorResponseException;
 /**
  * Exception for access-related errors (authentication, authorization). Sealed to only permit public
  * and internal access exception categories.
+ *
+ * <p>Built with a frozen body from {@link AccessProblemDetail.Builder#buildShared()},
+ * {@link #getProblemDetail()} is a mutable copy of it.
  */
 public abstract sealed class AccessErrorResponseException extends ApiErrorResponseException
     permits PublicAccessErrorResponseException, InternalAccessErrorResponseException {
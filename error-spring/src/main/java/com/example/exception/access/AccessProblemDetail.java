@@ -1,15 +1,17 @@
 package com.example.exception.access;
 
+import com.example.exception.SharedProblemDetail;
 import java.net.URI;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ProblemDetail;
 
 /**
- * Problem detail for access-related errors (authentication, authorization).
+ * Problem detail for access-related errors (authentication, authorization). An instance from
+ * {@link Builder#buildShared()} is frozen, see {@link SharedProblemDetail}.
  */
-public final class AccessProblemDetail extends ProblemDetail {
+public final class AccessProblemDetail extends SharedProblemDetail {
 
   private static final URI TYPE = URI.create("/errors/types/access");
+  private static final Cache<AccessProblemDetail> SHARED = new Cache<>();
   private static final HttpStatus DEFAULT_STATUS = HttpStatus.UNAUTHORIZED;
 
   AccessProblemDetail() {
@@ -17,7 +19,7 @@ public final class AccessProblemDetail extends ProblemDetail {
   }
 
   private AccessProblemDetail(HttpStatus status, String title, String detail) {
-    super(status.value());
+    super(status);
     setType(TYPE);
     setTitle(title);
     if (detail != null) {
@@ -25,6 +27,15 @@ public final class AccessProblemDetail extends ProblemDetail {
     }
   }
 
+  private AccessProblemDetail(AccessProblemDetail other) {
+    super(other);
+  }
+
+  @Override
+  public AccessProblemDetail copy() {
+    return new AccessProblemDetail(this);
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -56,5 +67,13 @@ public final class AccessProblemDetail extends ProblemDetail {
     public AccessProblemDetail build() {
       return new AccessProblemDetail(status, title, detail);
     }
+
+    /**
+     * Returns a frozen instance, shared with every other builder set to the same status, title
+     * and detail.
+     */
+    public AccessProblemDetail buildShared() {
+      return SHARED.get(status, title, detail, this::build);
+    }
   }
 }
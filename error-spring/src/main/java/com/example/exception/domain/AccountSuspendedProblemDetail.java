@@ -1,6 +1,5 @@
 package com.example.exception.domain;
 
-import com.fasterxml.jackson.annotation.JsonSetter;
 import org.springframework.http.HttpStatus;
 
 /**
@@ -11,11 +10,7 @@ public final class AccountSuspendedProblemDetail extends DomainProblemDetail {
   private static final AccountErrorCode CODE = AccountErrorCode.ACCOUNT_SUSPENDED;
   private static final String TITLE = "Account Suspended";
 
-  AccountSuspendedProblemDetail() {
-    super(CODE.getCode(), TITLE, null, null);
-  }
-
-  private AccountSuspendedProblemDetail(HttpStatus status, String detail,
+  private AccountSuspendedProblemDetail(HttpStatus status, CharSequence detail,
       AccountSuspendedAttributes attributes) {
     super(status, CODE.getCode(), TITLE, detail, attributes);
   }
@@ -29,11 +24,6 @@ public final class AccountSuspendedProblemDetail extends DomainProblemDetail {
     return (AccountSuspendedAttributes) super.getAttributes();
   }
 
-  @JsonSetter(ATTRIBUTES_PROPERTY)
-  private void setAttributes(AccountSuspendedAttributes attributes) {
-    setProperty(ATTRIBUTES_PROPERTY, attributes);
-  }
-
   public static final class Builder
       extends DomainProblemDetail.Builder<AccountSuspendedAttributes, AccountSuspendedProblemDetail> {
 
@@ -1,6 +1,7 @@
 package com.example.exception.domain;
 
 import com.example.exception.ErrorCode;
+import java.util.Optional;
 
 /**
  * Base interface for domain error codes. Follows the convention {@code <domain>.<error_code>}.
@@ -11,4 +12,13 @@ public sealed interface DomainErrorCode extends ErrorCode
   String getDomain();
 
   String getErrorCode();
+
+  /**
+   * Resolves a wire code such as {@code transfer.transfer_limit_exceeded} to its constant across
+   * every permitted subtype. The code is matched whole, so the domain and error code parts are
+   * never split out; they are available precomputed from the resolved constant.
+   */
+  static Optional<DomainErrorCode> resolve(CharSequence code) {
+    return Optional.ofNullable(DomainErrorCodes.TABLE.get(code));
+  }
 }
@@ -0,0 +1,20 @@
+package com.example.exception.domain;
+
+import com.example.exception.ErrorCodeTable;
+import java.util.Arrays;
+
+/**
+ * Lookup table over the constants of every {@link DomainErrorCode} subtype, built from the sealed
+ * hierarchy so new domains are picked up without registration.
+ */
+final class DomainErrorCodes {
+
+  static final ErrorCodeTable<DomainErrorCode> TABLE = ErrorCodeTable.of(
+      Arrays.stream(DomainErrorCode.class.getPermittedSubclasses())
+          .flatMap(type -> Arrays.stream(type.getEnumConstants()))
+          .map(DomainErrorCode.class::cast)
+          .toList());
+
+  private DomainErrorCodes() {
+  }
+}
@@ -1,63 +1,101 @@
 package com.example.exception.domain;
 
+import com.example.exception.DetailTemplate;
 import com.example.exception.ErrorAttributes;
-import com.fasterxml.jackson.annotation.JsonSubTypes;
-import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.net.URI;
-import java.util.Optional;
+import java.util.Objects;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 
 /**
  * Problem detail for domain-specific business errors. Sealed to only permit specific domain problem
- * detail implementations.
+ * detail implementations. The {@code code} and {@code attributes} extension members are kept in
+ * typed fields and serialized through their getters rather than the generic properties map;
+ * deserialization dispatches on {@code code} to the concrete subtype. A detail given as a
+ * {@link DetailTemplate} is rendered on the first call to {@link #getDetail()} and published
+ * through a volatile field.
  */
-@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "code")
-@JsonSubTypes({
-    @JsonSubTypes.Type(value = TransferLimitExceededProblemDetail.class, name = "transfer.transfer_limit_exceeded"),
-    @JsonSubTypes.Type(value = AccountSuspendedProblemDetail.class, name = "account.account_suspended")
-})
+@JsonPropertyOrder({"type", "title", "status", "detail", "instance", "code", "attributes"})
+@JsonDeserialize(using = DomainProblemDetailDeserializer.class)
 public abstract sealed class DomainProblemDetail extends ProblemDetail
     permits TransferLimitExceededProblemDetail, AccountSuspendedProblemDetail {
 
   protected static final String ATTRIBUTES_PROPERTY = "attributes";
   private static final URI TYPE = URI.create("/errors/types/domain");
   private static final HttpStatus DEFAULT_STATUS = HttpStatus.UNPROCESSABLE_CONTENT;
-  private static final String CODE_PROPERTY = "code";
 
-  protected DomainProblemDetail(String code, String title, String detail,
+  private final String code;
+  private final ErrorAttributes attributes;
+  private volatile CharSequence pendingDetail;
+
+  protected DomainProblemDetail(String code, String title, CharSequence detail,
       ErrorAttributes attributes) {
     this(DEFAULT_STATUS, code, title, detail, attributes);
   }
 
-  protected DomainProblemDetail(HttpStatus status, String code, String title, String detail,
-      ErrorAttributes attributes) {
+  protected DomainProblemDetail(HttpStatus status, String code, String title,
+      CharSequence detail, ErrorAttributes attributes) {
     super(status.value());
     setType(TYPE);
     setTitle(title);
-    if (detail != null) {
-      setDetail(detail);
+    if (detail instanceof String value) {
+      setDetail(value);
+    } else {
+      this.pendingDetail = detail;
+    }
+    this.code = code;
+    this.attributes = attributes;
+  }
+
+  @Override
+  public String getDetail() {
+    CharSequence pending = pendingDetail;
+    if (pending != null) {
+      super.setDetail(pending.toString());
+      pendingDetail = null;
     }
-    setProperty(CODE_PROPERTY, code);
-    setProperty(ATTRIBUTES_PROPERTY, attributes);
+    return super.getDetail();
+  }
+
+  @Override
+  public void setDetail(String detail) {
+    pendingDetail = null;
+    super.setDetail(detail);
   }
 
   public String getCode() {
-    return (String) Optional.ofNullable(getProperties())
-        .map(it -> it.get(CODE_PROPERTY))
-        .orElse(null);
+    return code;
   }
 
   public ErrorAttributes getAttributes() {
-    return (ErrorAttributes) Optional.ofNullable(getProperties())
-        .map(it -> it.get(ATTRIBUTES_PROPERTY))
-        .orElse(null);
+    return attributes;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    // ProblemDetail compares the detail field, so render pending details first
+    return this == other || (other instanceof DomainProblemDetail that
+        && Objects.equals(getDetail(), that.getDetail()) && super.equals(that)
+        && Objects.equals(code, that.code) && Objects.equals(attributes, that.attributes));
+  }
+
+  @Override
+  public int hashCode() {
+    getDetail();
+    return Objects.hash(super.hashCode(), code, attributes);
+  }
+
+  @Override
+  protected String initToStringContent() {
+    return super.initToStringContent() + ", code='" + code + "', attributes='" + attributes + "'";
   }
 
   public abstract static class Builder<A extends ErrorAttributes, T extends DomainProblemDetail> {
 
     protected HttpStatus status = DEFAULT_STATUS;
-    protected String detail;
+    protected CharSequence detail;
     protected A attributes;
 
     protected Builder() {
@@ -73,6 +111,14 @@ public abstract sealed class DomainProblemDetail extends ProblemDetail
       return this;
     }
 
+    /**
+     * Sets the detail to {@code template} bound to {@code args}, rendered only when read.
+     */
+    public Builder<A, T> detail(DetailTemplate template, Object... args) {
+      this.detail = template.format(args);
+      return this;
+    }
+
     public Builder<A, T> attributes(A attributes) {
       this.attributes = attributes;
       return this;
@@ -0,0 +1,178 @@
+package com.example.exception.domain;
+
+import com.example.exception.ErrorAttributes;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Single-pass deserializer for {@link DomainProblemDetail}. Members are read in whatever order they
+ * arrive and the concrete subtype is picked from a registry keyed by {@link DomainErrorCode}
+ * once {@code code} is seen. Only an {@code attributes} object that arrives before {@code code} is
+ * held back, as a tree, until its target type is known.
+ */
+final class DomainProblemDetailDeserializer extends StdDeserializer<DomainProblemDetail>
+    implements ContextualDeserializer {
+
+  private static final List<Binding<?>> BINDINGS = List.of(
+      new Binding<>(AccountErrorCode.ACCOUNT_SUSPENDED, AccountSuspendedProblemDetail.class,
+          AccountSuspendedAttributes.class, AccountSuspendedProblemDetail::builder),
+      new Binding<>(TransferErrorCode.TRANSFER_LIMIT_EXCEEDED,
+          TransferLimitExceededProblemDetail.class, TransferLimitExceededAttributes.class,
+          TransferLimitExceededProblemDetail::builder));
+
+  private static final Map<DomainErrorCode, Binding<?>> BINDINGS_BY_CODE = BINDINGS.stream()
+      .collect(Collectors.toUnmodifiableMap(Binding::code, Function.identity()));
+
+  private static final Map<Class<?>, Binding<?>> BINDINGS_BY_TYPE = BINDINGS.stream()
+      .collect(Collectors.toUnmodifiableMap(Binding::type, Function.identity()));
+
+  DomainProblemDetailDeserializer() {
+    super(DomainProblemDetail.class);
+  }
+
+  private DomainProblemDetailDeserializer(Class<?> targetType) {
+    super(targetType);
+  }
+
+  @Override
+  public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+    Class<?> targetType = ctxt.getContextualType() != null
+        ? ctxt.getContextualType().getRawClass()
+        : DomainProblemDetail.class;
+    return targetType == handledType() ? this : new DomainProblemDetailDeserializer(targetType);
+  }
+
+  @Override
+  public DomainProblemDetail deserialize(JsonParser p, DeserializationContext ctxt)
+      throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = p.nextToken();
+    } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+      return (DomainProblemDetail) ctxt.handleUnexpectedToken(handledType(), p);
+    }
+
+    Binding<?> binding = null;
+    String code = null;
+    Object attributes = null;
+    JsonNode pendingAttributes = null;
+    URI type = null;
+    String title = null;
+    Integer status = null;
+    String detail = null;
+    URI instance = null;
+    Map<String, Object> properties = null;
+
+    for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+      String name = p.currentName();
+      p.nextToken();
+      switch (name) {
+        case "code" -> {
+          binding = binding(p);
+          code = binding != null ? binding.code().getCode() : p.getValueAsString();
+        }
+        case DomainProblemDetail.ATTRIBUTES_PROPERTY -> {
+          if (p.currentToken() == JsonToken.VALUE_NULL) {
+            attributes = null;
+            pendingAttributes = null;
+          } else if (binding != null) {
+            attributes = ctxt.readValue(p, binding.attributesType());
+          } else {
+            pendingAttributes = ctxt.readTree(p);
+          }
+        }
+        case "type" -> type = toUri(p.getValueAsString());
+        case "title" -> title = p.getValueAsString();
+        case "status" -> status = p.getIntValue();
+        case "detail" -> detail = p.getValueAsString();
+        case "instance" -> instance = toUri(p.getValueAsString());
+        default -> {
+          if (properties == null) {
+            properties = new LinkedHashMap<>();
+          }
+          properties.put(name, ctxt.readValue(p, Object.class));
+        }
+      }
+    }
+
+    if (binding == null) {
+      binding = BINDINGS_BY_TYPE.get(handledType());
+      if (binding == null || code != null) {
+        throw code == null
+            ? ctxt.missingTypeIdException(ctxt.constructType(handledType()), "missing 'code'")
+            : ctxt.invalidTypeIdException(ctxt.constructType(handledType()), code,
+                "unknown domain error code");
+      }
+    }
+    if (pendingAttributes != null && !pendingAttributes.isNull()) {
+      attributes = ctxt.readTreeAsValue(pendingAttributes, binding.attributesType());
+    }
+
+    DomainProblemDetail problemDetail = binding.build(detail, attributes);
+    if (!handledType().isInstance(problemDetail)) {
+      return (DomainProblemDetail) ctxt.reportInputMismatch(this,
+          "Domain error code '%s' does not map to %s", code, handledType().getName());
+    }
+    if (type != null) {
+      problemDetail.setType(type);
+    }
+    if (title != null) {
+      problemDetail.setTitle(title);
+    }
+    if (status != null) {
+      problemDetail.setStatus(status);
+    }
+    if (instance != null) {
+      problemDetail.setInstance(instance);
+    }
+    if (properties != null) {
+      properties.forEach(problemDetail::setProperty);
+    }
+    return problemDetail;
+  }
+
+  private static URI toUri(String value) {
+    return value != null ? URI.create(value) : null;
+  }
+
+  /**
+   * Resolves the binding for the current string token from the parser's text buffer, without
+   * materializing the code as a String.
+   */
+  private static Binding<?> binding(JsonParser p) throws IOException {
+    if (p.currentToken() != JsonToken.VALUE_STRING) {
+      return null;
+    }
+    DomainErrorCode code = DomainErrorCodes.TABLE.get(
+        p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+    return code != null ? BINDINGS_BY_CODE.get(code) : null;
+  }
+
+  private record Binding<A extends ErrorAttributes>(
+      DomainErrorCode code,
+      Class<? extends DomainProblemDetail> type,
+      Class<A> attributesType,
+      Supplier<? extends DomainProblemDetail.Builder<A, ?>> builder) {
+
+    DomainProblemDetail build(String detail, Object attributes) {
+      return builder.get()
+          .detail(detail)
+          .attributes(attributesType.cast(attributes))
+          .build();
+    }
+  }
+}
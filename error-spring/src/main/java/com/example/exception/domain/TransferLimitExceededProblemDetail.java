@@ -1,6 +1,5 @@
 package com.example.exception.domain;
 
-import com.fasterxml.jackson.annotation.JsonSetter;
 import org.springframework.http.HttpStatus;
 
 /**
@@ -11,11 +10,7 @@ public final class TransferLimitExceededProblemDetail extends DomainProblemDetai
   private static final TransferErrorCode CODE = TransferErrorCode.TRANSFER_LIMIT_EXCEEDED;
   private static final String TITLE = "Transfer Limit Exceeded";
 
-  TransferLimitExceededProblemDetail() {
-    super(CODE.getCode(), TITLE, null, null);
-  }
-
-  private TransferLimitExceededProblemDetail(HttpStatus status, String detail,
+  private TransferLimitExceededProblemDetail(HttpStatus status, CharSequence detail,
       TransferLimitExceededAttributes attributes) {
     super(status, CODE.getCode(), TITLE, detail, attributes);
   }
@@ -29,11 +24,6 @@ public final class TransferLimitExceededProblemDetail extends DomainProblemDetai
     return (TransferLimitExceededAttributes) super.getAttributes();
   }
 
-  @JsonSetter(ATTRIBUTES_PROPERTY)
-  private void setAttributes(TransferLimitExceededAttributes attributes) {
-    setProperty(ATTRIBUTES_PROPERTY, attributes);
-  }
-
   public static final class Builder
       extends DomainProblemDetail.Builder<TransferLimitExceededAttributes, TransferLimitExceededProblemDetail> {
 
@@ -0,0 +1,16 @@
+package com.example.exception.json;
+
+import com.example.exception.ErrorAttributes;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+
+/**
+ * Writes error attributes of one type as a JSON object, see
+ * {@link ProblemDetailModule#addAttributesWriter(Class, AttributesWriter)}. Called for every error
+ * written, so it should not allocate.
+ */
+@FunctionalInterface
+public interface AttributesWriter<A extends ErrorAttributes> {
+
+  void write(A attributes, JsonGenerator gen) throws IOException;
+}
@@ -0,0 +1,121 @@
+package com.example.exception.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.http.ProblemDetail;
+
+/**
+ * Serializer for a concrete ProblemDetail whose {@code type} and {@code title} never change. The
+ * constant values are taken from a prototype instance and pre-encoded once, so serialization only
+ * copies their UTF-8 bytes and streams the variable members. Instances whose type or title were
+ * changed after construction fall back to regular string writes.
+ */
+final class ConstantPrefixSerializer<T extends ProblemDetail> extends StdSerializer<T> {
+
+  static final SerializedString TYPE = new SerializedString("type");
+  static final SerializedString TITLE = new SerializedString("title");
+  static final SerializedString STATUS = new SerializedString("status");
+  static final SerializedString DETAIL = new SerializedString("detail");
+  static final SerializedString INSTANCE = new SerializedString("instance");
+  static final SerializedString CODE = new SerializedString("code");
+  static final SerializedString ATTRIBUTES = new SerializedString("attributes");
+  static final SerializedString ERRORS = new SerializedString("errors");
+  static final SerializedString TRUNCATED = new SerializedString("truncated");
+  static final SerializedString OMITTED_ERRORS = new SerializedString("omittedErrors");
+
+  private final URI typeValue;
+  private final SerializedString encodedType;
+  private final String titleValue;
+  private final SerializedString encodedTitle;
+  private final Set<String> extensionProperties;
+  private final ExtensionWriter<? super T> extensionWriter;
+
+  ConstantPrefixSerializer(Class<T> type, T prototype, Set<String> extensionProperties,
+      ExtensionWriter<? super T> extensionWriter) {
+    super(type);
+    this.typeValue = prototype.getType();
+    this.encodedType = new SerializedString(String.valueOf(typeValue));
+    this.titleValue = prototype.getTitle();
+    this.encodedTitle = new SerializedString(String.valueOf(titleValue));
+    this.extensionProperties = Set.copyOf(extensionProperties);
+    this.extensionWriter = extensionWriter;
+  }
+
+  @Override
+  public void serialize(T value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    gen.writeStartObject(value);
+    writeConstant(gen, TYPE, encodedType, typeValue, value.getType());
+    writeConstant(gen, TITLE, encodedTitle, titleValue, value.getTitle());
+    gen.writeFieldName(STATUS);
+    gen.writeNumber(value.getStatus());
+    writeNonEmpty(gen, DETAIL, value.getDetail());
+    if (value.getInstance() != null) {
+      writeNonEmpty(gen, INSTANCE, value.getInstance().toString());
+    }
+    extensionWriter.write(value, gen, provider);
+    writeAdditionalProperties(value, gen, provider);
+    gen.writeEndObject();
+  }
+
+  /**
+   * The code written by the extension writer already identifies the subtype, so no separate type id
+   * is emitted when Jackson serializes through a polymorphic base type.
+   */
+  @Override
+  public void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider,
+      TypeSerializer typeSer) throws IOException {
+    serialize(value, gen, provider);
+  }
+
+  static <V> void writeConstant(JsonGenerator gen, SerializedString name,
+      SerializedString encoded, V expected, V actual) throws IOException {
+    if (actual == null) {
+      return;
+    }
+    gen.writeFieldName(name);
+    if (actual == expected || actual.equals(expected)) {
+      gen.writeString(encoded);
+    } else {
+      gen.writeString(actual.toString());
+    }
+  }
+
+  static void writeNonEmpty(JsonGenerator gen, SerializedString name, String value)
+      throws IOException {
+    if (value != null && !value.isEmpty()) {
+      gen.writeFieldName(name);
+      gen.writeString(value);
+    }
+  }
+
+  private void writeAdditionalProperties(T value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    Map<String, Object> properties = value.getProperties();
+    if (properties == null || properties.isEmpty()) {
+      return;
+    }
+    for (Map.Entry<String, Object> property : properties.entrySet()) {
+      if (property.getValue() != null && !extensionProperties.contains(property.getKey())) {
+        gen.writeFieldName(property.getKey());
+        provider.defaultSerializeValue(property.getValue(), gen);
+      }
+    }
+  }
+
+  /**
+   * Writes the members a ProblemDetail subtype adds on top of the RFC 7807 ones.
+   */
+  @FunctionalInterface
+  interface ExtensionWriter<T> {
+
+    void write(T value, JsonGenerator gen, SerializerProvider provider) throws IOException;
+  }
+}
@@ -0,0 +1,97 @@
+package com.example.exception.json;
+
+import static com.example.exception.json.ConstantPrefixSerializer.ATTRIBUTES;
+import static com.example.exception.json.ConstantPrefixSerializer.CODE;
+import static com.example.exception.json.ConstantPrefixSerializer.ERRORS;
+import static com.example.exception.json.ConstantPrefixSerializer.OMITTED_ERRORS;
+import static com.example.exception.json.ConstantPrefixSerializer.TRUNCATED;
+
+import com.example.exception.ErrorAttributes;
+import com.example.exception.domain.AccountSuspendedProblemDetail;
+import com.example.exception.domain.DomainProblemDetail;
+import com.example.exception.domain.TransferLimitExceededProblemDetail;
+import com.example.exception.validation.ValidationError;
+import com.example.exception.validation.ValidationProblemDetail;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Jackson module that serializes the concrete domain and validation problem details from
+ * pre-encoded constant members, streaming only {@code detail}, {@code instance},
+ * {@code attributes} and {@code errors}, the latter straight from a streamed source when there is
+ * one. Register it next to Spring's {@code ProblemDetailJacksonMixin}, which keeps handling the
+ * other ProblemDetail types and all deserialization.
+ *
+ * <p>Attributes are written by Jackson unless an {@link AttributesWriter} is added for their type,
+ * such as one calling the writers error-trait's {@code error-writers} plugin generates from a
+ * service's Smithy model.
+ */
+public final class ProblemDetailModule extends SimpleModule {
+
+  public ProblemDetailModule() {
+    super(ProblemDetailModule.class.getSimpleName());
+    ValidationErrorSerializer errorSerializer = new ValidationErrorSerializer();
+    addSerializer(ValidationError.class, errorSerializer);
+    addSerializer(ValidationProblemDetail.class, new ConstantPrefixSerializer<>(
+        ValidationProblemDetail.class,
+        ValidationProblemDetail.builder().build(),
+        Set.of(ERRORS.getValue(), TRUNCATED.getValue(), OMITTED_ERRORS.getValue()),
+        (value, gen, provider) -> {
+          // Errors are written as they are produced, a streamed source is not collected first
+          gen.writeFieldName(ERRORS);
+          gen.writeStartArray(value);
+          boolean truncated =
+              value.writeErrors(error -> errorSerializer.serialize(error, gen, provider));
+          gen.writeEndArray();
+          if (truncated) {
+            gen.writeFieldName(TRUNCATED);
+            gen.writeBoolean(true);
+          }
+          if (value.getOmittedErrors() > 0) {
+            gen.writeFieldName(OMITTED_ERRORS);
+            gen.writeNumber(value.getOmittedErrors());
+          }
+        }));
+    addDomainSerializer(AccountSuspendedProblemDetail.class,
+        AccountSuspendedProblemDetail.builder().build());
+    addDomainSerializer(TransferLimitExceededProblemDetail.class,
+        TransferLimitExceededProblemDetail.builder().build());
+  }
+
+  /**
+   * Writes attributes of {@code type} with {@code writer} instead of Jackson's bean serializer.
+   * Add writers before registering the module with an {@code ObjectMapper}.
+   */
+  public <A extends ErrorAttributes> ProblemDetailModule addAttributesWriter(Class<A> type,
+      AttributesWriter<A> writer) {
+    addSerializer(type, new StdSerializer<>(type) {
+      @Override
+      public void serialize(A value, JsonGenerator gen, SerializerProvider provider)
+          throws IOException {
+        writer.write(value, gen);
+      }
+    });
+    return this;
+  }
+
+  private <T extends DomainProblemDetail> void addDomainSerializer(Class<T> type, T prototype) {
+    String code = prototype.getCode();
+    SerializedString encodedCode = new SerializedString(code);
+    addSerializer(type, new ConstantPrefixSerializer<>(
+        type,
+        prototype,
+        Set.of(CODE.getValue(), ATTRIBUTES.getValue()),
+        (value, gen, provider) -> {
+          ConstantPrefixSerializer.writeConstant(gen, CODE, encodedCode, code, value.getCode());
+          if (value.getAttributes() != null) {
+            gen.writeFieldName(ATTRIBUTES);
+            provider.defaultSerializeValue(value.getAttributes(), gen);
+          }
+        }));
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.exception.json;
+
+import static com.example.exception.json.ConstantPrefixSerializer.ATTRIBUTES;
+import static com.example.exception.json.ConstantPrefixSerializer.CODE;
+import static com.example.exception.json.ConstantPrefixSerializer.DETAIL;
+
+import com.example.exception.validation.ValidationError;
+import com.example.exception.validation.ValidationErrorCode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serializer for {@link ValidationError} that writes the code of every known
+ * {@link ValidationErrorCode} from a pre-encoded value.
+ */
+final class ValidationErrorSerializer extends StdSerializer<ValidationError> {
+
+  private static final SerializedString REF = new SerializedString("ref");
+
+  private final Map<String, SerializedString> encodedCodes;
+
+  ValidationErrorSerializer() {
+    super(ValidationError.class);
+    Map<String, SerializedString> codes = new HashMap<>();
+    for (ValidationErrorCode code : ValidationErrorCode.values()) {
+      codes.put(code.getCode(), new SerializedString(code.getCode()));
+    }
+    this.encodedCodes = Map.copyOf(codes);
+  }
+
+  @Override
+  public void serialize(ValidationError value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    gen.writeStartObject(value);
+    if (value.getCode() != null) {
+      SerializedString code = encodedCodes.get(value.getCode());
+      gen.writeFieldName(CODE);
+      if (code != null) {
+        gen.writeString(code);
+      } else {
+        gen.writeString(value.getCode());
+      }
+    }
+    ConstantPrefixSerializer.writeNonEmpty(gen, DETAIL, value.getDetail());
+    ConstantPrefixSerializer.writeNonEmpty(gen, REF, value.getRef());
+    if (value.getAttributes() != null) {
+      gen.writeFieldName(ATTRIBUTES);
+      provider.defaultSerializeValue(value.getAttributes(), gen);
+    }
+    gen.writeEndObject();
+  }
+
+  @Override
+  public void serializeWithType(ValidationError value, JsonGenerator gen,
+      SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+    serialize(value, gen, provider);
+  }
+}
@@ -0,0 +1,247 @@
+package com.example.exception.logging;
+
+import com.example.exception.ApiErrorResponseException;
+import com.example.exception.domain.DomainErrorResponseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import org.apache.commons.logging.Log;
+
+/**
+ * Logs {@link ApiErrorResponseException}s, collapsing repeats of the same {@link ErrorFingerprint}.
+ * The first occurrence is logged with its stack trace; repeats within the window only increment a
+ * counter, which is reported on the next record for that fingerprint once the window has passed,
+ * or on its own line when the fingerprint is evicted or {@link #flush()} is called. Fingerprints
+ * are kept in a bounded, least-recently-used map, so a flood of distinct errors cannot grow it.
+ *
+ * <p>Server errors are logged at error level, others at warn. Records carry the exception class,
+ * status, domain code and fingerprint, and the trace fingerprint of an exception captured in
+ * {@code StackTraceMode.ADAPTIVE} mode, which links a record without a stack trace to the one with
+ * it.
+ */
+public final class DeduplicatingErrorLog {
+
+  private static final int DEFAULT_CAPACITY = 1024;
+  private static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+  private static final int DEFAULT_FRAMES = 5;
+
+  private final Log log;
+  private final int frames;
+  private final long windowNanos;
+  private final LongSupplier ticker;
+  // Guarded by itself
+  private final Window entries;
+
+  private DeduplicatingErrorLog(Builder builder) {
+    this.log = builder.log;
+    this.frames = builder.frames;
+    this.windowNanos = builder.window.toNanos();
+    this.ticker = builder.ticker;
+    this.entries = new Window(builder.capacity);
+  }
+
+  public static Builder builder(Log log) {
+    return new Builder(log);
+  }
+
+  /**
+   * Logs {@code exception}, unless it repeats an error already logged within the window.
+   */
+  public void log(ApiErrorResponseException exception) {
+    long fingerprint = ErrorFingerprint.of(exception, frames);
+    long now = ticker.getAsLong();
+    long repeats;
+    List<Repeats> evicted;
+    synchronized (entries) {
+      Entry entry = entries.get(fingerprint);
+      if (entry != null && now - entry.windowStart < windowNanos) {
+        entry.repeats++;
+        return;
+      }
+      if (entry == null) {
+        entries.put(fingerprint, new Entry(exception, now));
+        repeats = 0;
+      } else {
+        repeats = entry.repeats;
+        entry.windowStart = now;
+        entry.repeats = 0;
+      }
+      evicted = entries.drainEvicted();
+    }
+
+    StringBuilder message = describe(new StringBuilder(), exception.getClass().getName(),
+        exception.getStatusCode().value(), codeOf(exception), fingerprint);
+    if (exception.getTraceFingerprint() != 0) {
+      message.append(" trace=").append(exception.getTraceFingerprint());
+    }
+    if (repeats > 0) {
+      message.append(" (repeated ").append(repeats).append(" times since last logged)");
+    }
+    if (exception.getStatusCode().is5xxServerError()) {
+      log.error(message.toString(), exception);
+    } else {
+      log.warn(message.toString(), exception);
+    }
+    evicted.forEach(this::write);
+  }
+
+  /**
+   * Reports the repeats counted since each fingerprint was last logged.
+   */
+  public void flush() {
+    List<Repeats> pending = new ArrayList<>();
+    synchronized (entries) {
+      entries.forEach((fingerprint, entry) -> {
+        if (entry.repeats > 0) {
+          pending.add(entry.drain(fingerprint));
+        }
+      });
+    }
+    pending.forEach(this::write);
+  }
+
+  private void write(Repeats repeats) {
+    StringBuilder message = describe(new StringBuilder(), repeats.type(), repeats.status(),
+        repeats.code(), repeats.fingerprint())
+        .append(" repeated ").append(repeats.count()).append(" times since last logged");
+    if (repeats.status() >= 500) {
+      log.error(message.toString());
+    } else {
+      log.warn(message.toString());
+    }
+  }
+
+  private static StringBuilder describe(StringBuilder message, String type, int status,
+      String code, long fingerprint) {
+    message.append(type).append(" status=").append(status);
+    if (code != null) {
+      message.append(" code=").append(code);
+    }
+    return message.append(" fingerprint=").append(ErrorFingerprint.toHex(fingerprint));
+  }
+
+  private static String codeOf(ApiErrorResponseException exception) {
+    return exception instanceof DomainErrorResponseException domain ? domain.getCode() : null;
+  }
+
+  /**
+   * A fingerprint in the window. Holds what its records need rather than the exception, which
+   * would keep its cause chain reachable.
+   */
+  private static final class Entry {
+
+    private final String type;
+    private final int status;
+    private final String code;
+    private long windowStart;
+    private long repeats;
+
+    private Entry(ApiErrorResponseException exception, long windowStart) {
+      this.type = exception.getClass().getName();
+      this.status = exception.getStatusCode().value();
+      this.code = codeOf(exception);
+      this.windowStart = windowStart;
+    }
+
+    private Repeats drain(long fingerprint) {
+      Repeats drained = new Repeats(fingerprint, type, status, code, repeats);
+      repeats = 0;
+      return drained;
+    }
+  }
+
+  private record Repeats(long fingerprint, String type, int status, String code, long count) {
+  }
+
+  private static final class Window extends LinkedHashMap<Long, Entry> {
+
+    private final int capacity;
+    private List<Repeats> evicted = List.of();
+
+    private Window(int capacity) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+      if (size() <= capacity) {
+        return false;
+      }
+      if (eldest.getValue().repeats > 0) {
+        if (evicted.isEmpty()) {
+          evicted = new ArrayList<>();
+        }
+        evicted.add(eldest.getValue().drain(eldest.getKey()));
+      }
+      return true;
+    }
+
+    private List<Repeats> drainEvicted() {
+      List<Repeats> drained = evicted;
+      evicted = List.of();
+      return drained;
+    }
+  }
+
+  public static final class Builder {
+
+    private final Log log;
+    private int capacity = DEFAULT_CAPACITY;
+    private Duration window = DEFAULT_WINDOW;
+    private int frames = DEFAULT_FRAMES;
+    private LongSupplier ticker = System::nanoTime;
+
+    private Builder(Log log) {
+      this.log = log;
+    }
+
+    /**
+     * Sets how many fingerprints are tracked at once. Defaults to 1024.
+     */
+    public Builder capacity(int capacity) {
+      if (capacity < 1) {
+        throw new IllegalArgumentException("capacity must be positive: " + capacity);
+      }
+      this.capacity = capacity;
+      return this;
+    }
+
+    /**
+     * Sets how long repeats of a logged error are collapsed. Defaults to one minute.
+     */
+    public Builder window(Duration window) {
+      if (window.isNegative() || window.isZero()) {
+        throw new IllegalArgumentException("window must be positive: " + window);
+      }
+      this.window = window;
+      return this;
+    }
+
+    /**
+     * Sets how many top stack frames of the cause go into the fingerprint. Defaults to 5.
+     */
+    public Builder frames(int frames) {
+      if (frames < 0) {
+        throw new IllegalArgumentException("frames must not be negative: " + frames);
+      }
+      this.frames = frames;
+      return this;
+    }
+
+    /**
+     * Replaces {@link System#nanoTime()} as the time source of the window, for tests.
+     */
+    Builder ticker(LongSupplier ticker) {
+      this.ticker = ticker;
+      return this;
+    }
+
+    public DeduplicatingErrorLog build() {
+      return new DeduplicatingErrorLog(this);
+    }
+  }
+}
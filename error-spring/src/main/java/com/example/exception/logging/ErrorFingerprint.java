@@ -0,0 +1,74 @@
+package com.example.exception.logging;
+
+import com.example.exception.ApiErrorResponseException;
+import com.example.exception.StackTraceMode;
+import com.example.exception.domain.DomainErrorResponseException;
+
+/**
+ * Stable 64-bit fingerprint of an {@link ApiErrorResponseException}, from its class, domain error
+ * code, status, and the class and top frames of its cause. Without a cause, the exception's own
+ * frames are used only when its {@link StackTraceMode} is {@code FULL}: in the other modes some or
+ * all throws carry no trace, and every throw from one site must fingerprint alike. Only the hash
+ * codes of class and method names and line numbers are combined, which the JVM keeps as is across
+ * runs, so nothing is formatted and the same error on another instance yields the same
+ * fingerprint.
+ */
+public final class ErrorFingerprint {
+
+  private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long PRIME = 0x100000001b3L;
+
+  private ErrorFingerprint() {
+  }
+
+  /**
+   * Returns the fingerprint of {@code exception}, combining at most {@code frames} stack frames.
+   */
+  public static long of(ApiErrorResponseException exception, int frames) {
+    long hash = OFFSET_BASIS;
+    hash = mix(hash, exception.getClass().getName().hashCode());
+    hash = mix(hash, exception.getStatusCode().value());
+    if (exception instanceof DomainErrorResponseException domain && domain.getCode() != null) {
+      hash = mix(hash, domain.getCode().hashCode());
+    }
+
+    Throwable source = exception.getCause();
+    if (source != null) {
+      hash = mix(hash, source.getClass().getName().hashCode());
+    } else if (ApiErrorResponseException.getStackTracePolicy().modeFor(exception.getClass())
+        == StackTraceMode.FULL) {
+      source = exception;
+    } else {
+      return finish(hash);
+    }
+    StackTraceElement[] trace = source.getStackTrace();
+    for (int i = 0, count = Math.min(frames, trace.length); i < count; i++) {
+      hash = mix(hash, trace[i].getClassName().hashCode());
+      hash = mix(hash, trace[i].getMethodName().hashCode());
+      hash = mix(hash, trace[i].getLineNumber());
+    }
+    return finish(hash);
+  }
+
+  /**
+   * Renders {@code fingerprint} as 16 hex digits, as in log records.
+   */
+  public static String toHex(long fingerprint) {
+    String hex = Long.toHexString(fingerprint);
+    return hex.length() == 16 ? hex : "0".repeat(16 - hex.length()) + hex;
+  }
+
+  // FNV-1a over ints
+  private static long mix(long hash, int value) {
+    return (hash ^ value) * PRIME;
+  }
+
+  // Spreads the low-entropy FNV bits, as in MurmurHash3's fmix64
+  private static long finish(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    return hash ^ hash >>> 33;
+  }
+}
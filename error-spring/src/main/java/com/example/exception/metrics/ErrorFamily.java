@@ -0,0 +1,53 @@
+package com.example.exception.metrics;
+
+import com.example.exception.ApiErrorResponseException;
+import com.example.exception.access.AccessErrorResponseException;
+import com.example.exception.domain.DomainErrorResponseException;
+import com.example.exception.server.ServerErrorResponseException;
+import com.example.exception.validation.ValidationErrorResponseException;
+import java.util.Locale;
+
+/**
+ * The sealed exception families under {@link ApiErrorResponseException}.
+ */
+public enum ErrorFamily {
+  ACCESS,
+  DOMAIN,
+  SERVER,
+  VALIDATION;
+
+  private static final ClassValue<ErrorFamily> FAMILIES = new ClassValue<>() {
+    @Override
+    protected ErrorFamily computeValue(Class<?> type) {
+      if (AccessErrorResponseException.class.isAssignableFrom(type)) {
+        return ACCESS;
+      }
+      if (DomainErrorResponseException.class.isAssignableFrom(type)) {
+        return DOMAIN;
+      }
+      if (ServerErrorResponseException.class.isAssignableFrom(type)) {
+        return SERVER;
+      }
+      if (ValidationErrorResponseException.class.isAssignableFrom(type)) {
+        return VALIDATION;
+      }
+      return null;
+    }
+  };
+
+  private final String tag = name().toLowerCase(Locale.ROOT);
+
+  /**
+   * Returns the family of {@code type}, or null for a subtype outside the four families.
+   */
+  public static ErrorFamily of(Class<? extends ApiErrorResponseException> type) {
+    return FAMILIES.get(type);
+  }
+
+  /**
+   * Lower-case name used in metric names and tags.
+   */
+  public String getTag() {
+    return tag;
+  }
+}
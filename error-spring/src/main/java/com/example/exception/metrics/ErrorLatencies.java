@@ -0,0 +1,86 @@
+package com.example.exception.metrics;
+
+import com.example.exception.ApiErrorResponseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Time from the start of a request until it failed, as a {@link LatencyHistogram} per operation and
+ * error. Errors are laid out like in {@link ErrorMetrics}: domain exceptions by code, the other
+ * families by family. Operations are the constants of an enum, e.g. one generated from the Smithy
+ * service by error-trait's {@code service-operations} plugin, so a histogram is found by index and
+ * created with a compare-and-set the first time its combination occurs, without map lookups on the
+ * recording path.
+ *
+ * <p>Call {@link #recordSince(Enum, ApiErrorResponseException, long)} where the operation's handler
+ * catches or maps the exception, with the {@link System#nanoTime()} taken when the request started.
+ *
+ * @param <O> the operation enum
+ */
+public final class ErrorLatencies<O extends Enum<O>> {
+
+  private final O[] operations;
+  private final ErrorRows rows = ErrorRows.ALL;
+  private final AtomicReferenceArray<LatencyHistogram> histograms;
+
+  public ErrorLatencies(Class<O> operationType) {
+    this.operations = operationType.getEnumConstants();
+    this.histograms = new AtomicReferenceArray<>(operations.length * rows.size());
+  }
+
+  /**
+   * Records that {@code operation} failed with {@code exception} {@code elapsedNanos} after it
+   * started.
+   */
+  public void record(O operation, ApiErrorResponseException exception, long elapsedNanos) {
+    int row = rows.rowOf(exception);
+    if (row < 0) {
+      return;
+    }
+    int index = operation.ordinal() * rows.size() + row;
+    LatencyHistogram histogram = histograms.get(index);
+    if (histogram == null) {
+      histogram = createHistogram(index);
+    }
+    histogram.record(elapsedNanos);
+  }
+
+  /**
+   * Records that {@code operation} failed with {@code exception} now, having started at
+   * {@code startNanos} as returned by {@link System#nanoTime()}.
+   */
+  public void recordSince(O operation, ApiErrorResponseException exception, long startNanos) {
+    record(operation, exception, System.nanoTime() - startNanos);
+  }
+
+  /**
+   * Returns a snapshot of every histogram recorded into, in operation and row order.
+   */
+  public List<ErrorLatency<O>> snapshot() {
+    List<ErrorLatency<O>> latencies = new ArrayList<>();
+    for (int index = 0; index < histograms.length(); index++) {
+      LatencyHistogram histogram = histograms.get(index);
+      if (histogram != null) {
+        int row = index % rows.size();
+        latencies.add(new ErrorLatency<>(operations[index / rows.size()], rows.family(row),
+            rows.code(row), histogram.snapshot()));
+      }
+    }
+    return latencies;
+  }
+
+  private LatencyHistogram createHistogram(int index) {
+    LatencyHistogram created = new LatencyHistogram();
+    return histograms.compareAndSet(index, null, created) ? created : histograms.get(index);
+  }
+
+  /**
+   * Latencies of one operation and error. The code is null for a family's own row.
+   *
+   * @param <O> the operation enum
+   */
+  public record ErrorLatency<O extends Enum<O>>(O operation, ErrorFamily family, String code,
+      LatencyHistogram.Snapshot histogram) {
+  }
+}
@@ -0,0 +1,216 @@
+package com.example.exception.metrics;
+
+import com.example.exception.ApiErrorResponseException;
+import com.example.exception.domain.DomainErrorCode;
+import com.example.exception.validation.ValidationErrorCode;
+import com.example.exception.validation.ValidationErrorResponseException;
+import com.example.exception.validation.ValidationProblemDetail;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counts {@link ApiErrorResponseException}s as they are handled, by {@link ErrorFamily}, error code
+ * and HTTP status. {@code ProblemDetailExceptionResolver} and
+ * {@code ProblemDetailWebExceptionHandler} record every exception they resolve into
+ * {@link #global()}, and other handlers can call {@link #record} themselves, so exceptions that
+ * are built but never thrown are not counted. Every known {@link DomainErrorCode} and
+ * {@link ValidationErrorCode} gets a row at class initialization, next to one code-less row per
+ * family, and each row has a slot per status from 100 to 599. Recording is an array read and a
+ * {@link LongAdder} increment; a cell is created with a compare-and-set the first time its
+ * combination occurs, so nothing on the path locks.
+ *
+ * <p>Domain exceptions count under their code, or their family's row for a code outside the known
+ * constants. Validation exceptions count under the family row, and each of their collected errors
+ * also counts under its own code; errors from a streamed source are not counted, since that would
+ * consume it. Counts are exposed over JMX through {@link #registerMBean()} and to Micrometer
+ * through {@link ErrorMetricsBinder}.
+ */
+public final class ErrorMetrics implements ErrorMetricsMXBean {
+
+  public static final String OBJECT_NAME = "com.example.exception:type=ErrorMetrics";
+
+  private static final int MIN_STATUS = 100;
+  private static final int STATUS_SLOTS = 500;
+
+  private static final ErrorMetrics GLOBAL = new ErrorMetrics();
+
+  private final ErrorRows rows = ErrorRows.ALL;
+  private final AtomicReferenceArray<LongAdder> cells =
+      new AtomicReferenceArray<>(rows.size() * STATUS_SLOTS);
+  private final List<CellListener> listeners = new CopyOnWriteArrayList<>();
+
+  ErrorMetrics() {
+  }
+
+  /**
+   * The registry the exception handlers record into.
+   */
+  public static ErrorMetrics global() {
+    return GLOBAL;
+  }
+
+  /**
+   * Counts {@code exception}, once per response it is handled into.
+   */
+  public void record(ApiErrorResponseException exception) {
+    int row = rows.rowOf(exception);
+    int status = exception.getStatusCode().value();
+    if (row < 0 || status < MIN_STATUS || status >= MIN_STATUS + STATUS_SLOTS) {
+      return;
+    }
+    increment(row, status);
+    if (exception instanceof ValidationErrorResponseException validation) {
+      ValidationProblemDetail problemDetail = validation.getProblemDetail();
+      if (!problemDetail.isStreamed()) {
+        try {
+          // Reads the errors in place, where getErrors() would copy them
+          problemDetail.writeErrors(
+              error -> increment(rows.codeRow(error.getCode(), ErrorFamily.VALIDATION), status));
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the current count of every combination that occurred, in row and status order.
+   */
+  public List<ErrorCount> snapshot() {
+    List<ErrorCount> counts = new ArrayList<>();
+    for (int index = 0; index < cells.length(); index++) {
+      LongAdder cell = cells.get(index);
+      if (cell != null) {
+        int row = index / STATUS_SLOTS;
+        counts.add(new ErrorCount(rows.family(row), rows.code(row),
+            MIN_STATUS + index % STATUS_SLOTS, cell.sum()));
+      }
+    }
+    return counts;
+  }
+
+  @Override
+  public Map<String, Long> getCounts() {
+    Map<String, Long> counts = new LinkedHashMap<>();
+    for (ErrorCount count : snapshot()) {
+      counts.put(count.key(), count.count());
+    }
+    return counts;
+  }
+
+  /**
+   * Number of exceptions counted, leaving out the per-error validation code rows.
+   */
+  @Override
+  public long getTotal() {
+    long total = 0;
+    for (int row = 0; row < rows.size(); row++) {
+      if (rows.code(row) == null || rows.family(row) == ErrorFamily.DOMAIN) {
+        total += sumRow(row);
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Registers this registry with the platform MBean server under {@value #OBJECT_NAME}, unless
+   * something is already registered there.
+   */
+  public ObjectName registerMBean() {
+    try {
+      ObjectName name = new ObjectName(OBJECT_NAME);
+      try {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+      } catch (InstanceAlreadyExistsException e) {
+        // Already registered, e.g. by another application context in the same JVM
+      }
+      return name;
+    } catch (JMException e) {
+      throw new IllegalStateException("Could not register " + OBJECT_NAME, e);
+    }
+  }
+
+  /**
+   * Calls {@code listener} for every cell that exists now and every cell created later.
+   */
+  void addCellListener(CellListener listener) {
+    listeners.add(listener);
+    for (int index = 0; index < cells.length(); index++) {
+      LongAdder cell = cells.get(index);
+      if (cell != null) {
+        notify(listener, index, cell);
+      }
+    }
+  }
+
+  private void increment(int row, int status) {
+    int index = row * STATUS_SLOTS + status - MIN_STATUS;
+    LongAdder cell = cells.get(index);
+    if (cell == null) {
+      cell = createCell(index);
+    }
+    cell.increment();
+  }
+
+  private LongAdder createCell(int index) {
+    LongAdder created = new LongAdder();
+    if (!cells.compareAndSet(index, null, created)) {
+      return cells.get(index);
+    }
+    for (CellListener listener : listeners) {
+      notify(listener, index, created);
+    }
+    return created;
+  }
+
+  private void notify(CellListener listener, int index, LongAdder cell) {
+    int row = index / STATUS_SLOTS;
+    listener.cellCreated(rows.family(row), rows.code(row), MIN_STATUS + index % STATUS_SLOTS,
+        cell);
+  }
+
+  private long sumRow(int row) {
+    long sum = 0;
+    for (int slot = 0; slot < STATUS_SLOTS; slot++) {
+      LongAdder cell = cells.get(row * STATUS_SLOTS + slot);
+      if (cell != null) {
+        sum += cell.sum();
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Count of one family, code and status combination. The code is null for a family's own row.
+   */
+  public record ErrorCount(ErrorFamily family, String code, int status, long count) {
+
+    /**
+     * Key in the JMX counts map, e.g. {@code domain:account.account_suspended:403} or
+     * {@code access:401}.
+     */
+    public String key() {
+      return family.getTag() + (code != null ? ":" + code : "") + ":" + status;
+    }
+  }
+
+  /**
+   * Notified once for each cell, as it is created.
+   */
+  @FunctionalInterface
+  interface CellListener {
+
+    void cellCreated(ErrorFamily family, String code, int status, LongAdder cell);
+  }
+}
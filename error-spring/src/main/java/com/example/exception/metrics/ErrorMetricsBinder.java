@@ -0,0 +1,39 @@
+package com.example.exception.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes {@link ErrorMetrics} to Micrometer as the {@value #METER_NAME} counter, tagged with
+ * {@code family}, {@code code} and {@code status}. Each counter reads its cell's {@link LongAdder}
+ * when scraped, so recording never goes through the meter registry. Counters are registered for
+ * every combination that occurred before binding and as new ones first occur.
+ */
+public final class ErrorMetricsBinder implements MeterBinder {
+
+  public static final String METER_NAME = "api.errors";
+
+  private static final String NO_CODE = "none";
+
+  private final ErrorMetrics metrics;
+
+  public ErrorMetricsBinder() {
+    this(ErrorMetrics.global());
+  }
+
+  public ErrorMetricsBinder(ErrorMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    metrics.addCellListener((family, code, status, cell) ->
+        FunctionCounter.builder(METER_NAME, cell, LongAdder::sum)
+            .description("API error responses built")
+            .tags("family", family.getTag(), "code", code != null ? code : NO_CODE,
+                "status", String.valueOf(status))
+            .register(registry));
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.exception.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link ErrorMetrics}.
+ */
+public interface ErrorMetricsMXBean {
+
+  /**
+   * Counts keyed by family, code if any and status, e.g.
+   * {@code domain:account.account_suspended:403}.
+   */
+  Map<String, Long> getCounts();
+
+  /**
+   * Number of exceptions counted.
+   */
+  long getTotal();
+}
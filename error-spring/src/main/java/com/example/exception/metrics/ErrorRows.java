@@ -0,0 +1,86 @@
+package com.example.exception.metrics;
+
+import com.example.exception.ApiErrorResponseException;
+import com.example.exception.ErrorCode;
+import com.example.exception.domain.DomainErrorCode;
+import com.example.exception.domain.DomainErrorResponseException;
+import com.example.exception.validation.ValidationErrorCode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Fixed row layout shared by the error registries: one code-less row per {@link ErrorFamily},
+ * followed by a row for every known {@link DomainErrorCode} and {@link ValidationErrorCode}.
+ */
+final class ErrorRows {
+
+  static final ErrorRows ALL = new ErrorRows();
+
+  private final ErrorFamily[] families;
+  private final String[] codes;
+  private final Map<String, Integer> codeRows;
+
+  private ErrorRows() {
+    List<ErrorCode> known = Stream.concat(
+            Arrays.stream(DomainErrorCode.class.getPermittedSubclasses())
+                .flatMap(type -> Arrays.stream(type.getEnumConstants()))
+                .map(ErrorCode.class::cast),
+            Arrays.stream(ValidationErrorCode.values()))
+        .toList();
+    ErrorFamily[] values = ErrorFamily.values();
+    int rows = values.length + known.size();
+    this.families = new ErrorFamily[rows];
+    this.codes = new String[rows];
+    Map<String, Integer> byCode = new HashMap<>();
+    System.arraycopy(values, 0, families, 0, values.length);
+    for (int i = 0; i < known.size(); i++) {
+      int row = values.length + i;
+      ErrorCode code = known.get(i);
+      families[row] = code instanceof DomainErrorCode ? ErrorFamily.DOMAIN
+          : ErrorFamily.VALIDATION;
+      codes[row] = code.getCode();
+      byCode.put(code.getCode(), row);
+    }
+    this.codeRows = Map.copyOf(byCode);
+  }
+
+  int size() {
+    return families.length;
+  }
+
+  ErrorFamily family(int row) {
+    return families[row];
+  }
+
+  /**
+   * Returns the code of {@code row}, or null for a family's own row.
+   */
+  String code(int row) {
+    return codes[row];
+  }
+
+  /**
+   * Returns the row of {@code code}, or the row of {@code family} for an unknown code.
+   */
+  int codeRow(String code, ErrorFamily family) {
+    return codeRows.getOrDefault(code, family.ordinal());
+  }
+
+  /**
+   * Returns the row {@code exception} falls in: its code's for a domain exception, its family's
+   * otherwise, or -1 for a subtype outside the four families.
+   */
+  int rowOf(ApiErrorResponseException exception) {
+    ErrorFamily family = ErrorFamily.of(exception.getClass());
+    if (family == null) {
+      return -1;
+    }
+    if (exception instanceof DomainErrorResponseException domain) {
+      return codeRow(domain.getCode(), family);
+    }
+    return family.ordinal();
+  }
+}
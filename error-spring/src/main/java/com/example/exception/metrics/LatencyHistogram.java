@@ -0,0 +1,128 @@
+package com.example.exception.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-bucket, log-linear histogram of durations in nanoseconds. Each power of two is split into
+ * {@value #SUB_BUCKETS} linear buckets, so a bucket is at most 12.5% wide relative to its values,
+ * from 0 up to 2^37 ns (about 137 s); longer durations fall in the last bucket. Recording computes
+ * the bucket with a leading-zero count and increments one slot of an {@link AtomicLongArray},
+ * without locking or allocating.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_EXPONENT = 36;
+
+  /**
+   * Number of buckets, see {@link #lowerBound(int)} for their ranges.
+   */
+  public static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong totalNanos = new AtomicLong();
+
+  LatencyHistogram() {
+  }
+
+  public void record(long nanos) {
+    long value = Math.max(0, nanos);
+    counts.incrementAndGet(bucket(value));
+    totalNanos.addAndGet(value);
+  }
+
+  /**
+   * Copies the current counts. Concurrent records may or may not be included.
+   */
+  public Snapshot snapshot() {
+    long[] copy = new long[BUCKETS];
+    long count = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      copy[bucket] = counts.get(bucket);
+      count += copy[bucket];
+    }
+    return new Snapshot(copy, count, totalNanos.get());
+  }
+
+  /**
+   * Returns the bucket of a non-negative duration.
+   */
+  static int bucket(long nanos) {
+    if (nanos < SUB_BUCKETS) {
+      return (int) nanos;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+    if (exponent > MAX_EXPONENT) {
+      return BUCKETS - 1;
+    }
+    int shift = exponent - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) (nanos >>> shift) - SUB_BUCKETS;
+  }
+
+  /**
+   * Smallest duration, in nanoseconds, that falls in {@code bucket}.
+   */
+  public static long lowerBound(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+  }
+
+  /**
+   * Largest duration, in nanoseconds, that falls in {@code bucket}.
+   */
+  public static long upperBound(int bucket) {
+    return bucket == BUCKETS - 1 ? Long.MAX_VALUE : lowerBound(bucket + 1) - 1;
+  }
+
+  /**
+   * Point-in-time copy of a {@link LatencyHistogram}.
+   */
+  public static final class Snapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+
+    private Snapshot(long[] counts, long count, long totalNanos) {
+      this.counts = counts;
+      this.count = count;
+      this.totalNanos = totalNanos;
+    }
+
+    public long count() {
+      return count;
+    }
+
+    public long totalNanos() {
+      return totalNanos;
+    }
+
+    /**
+     * Returns the count of {@code bucket}.
+     */
+    public long count(int bucket) {
+      return counts[bucket];
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the given percentile, from 0 to 100, or 0 if
+     * nothing was recorded. The last bucket reports its lower bound, having no finite upper one.
+     */
+    public long valueAtPercentile(double percentile) {
+      long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+      long seen = 0;
+      for (int bucket = 0; bucket < BUCKETS; bucket++) {
+        seen += counts[bucket];
+        if (seen >= rank) {
+          return bucket == BUCKETS - 1 ? lowerBound(bucket) : upperBound(bucket);
+        }
+      }
+      return 0;
+    }
+  }
+}
@@ -5,6 +5,9 @@ import com.example.exception.ApiErrorResponseException;
 /**
  * Exception for server-side errors (internal errors, service unavailable). Sealed to only permit
  * public and internal server exception categories.
+ *
+ * <p>Built with a frozen body from {@link ServerProblemDetail.Builder#buildShared()},
+ * {@link #getProblemDetail()} is a mutable copy of it.
  */
 public abstract sealed class ServerErrorResponseException extends ApiErrorResponseException
     permits PublicServerErrorResponseException, InternalServerErrorResponseException {
@@ -1,15 +1,17 @@
 package com.example.exception.server;
 
+import com.example.exception.SharedProblemDetail;
 import java.net.URI;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ProblemDetail;
 
 /**
- * Problem detail for server-side errors (internal errors, service unavailable).
+ * Problem detail for server-side errors (internal errors, service unavailable). An instance from
+ * {@link Builder#buildShared()} is frozen, see {@link SharedProblemDetail}.
  */
-public final class ServerProblemDetail extends ProblemDetail {
+public final class ServerProblemDetail extends SharedProblemDetail {
 
   private static final URI TYPE = URI.create("/errors/types/server");
+  private static final Cache<ServerProblemDetail> SHARED = new Cache<>();
   private static final HttpStatus DEFAULT_STATUS = HttpStatus.INTERNAL_SERVER_ERROR;
 
   ServerProblemDetail() {
@@ -17,7 +19,7 @@ public final class ServerProblemDetail extends ProblemDetail {
   }
 
   private ServerProblemDetail(HttpStatus status, String title, String detail) {
-    super(status.value());
+    super(status);
     setType(TYPE);
     setTitle(title);
     if (detail != null) {
@@ -25,6 +27,15 @@ public final class ServerProblemDetail extends ProblemDetail {
     }
   }
 
+  private ServerProblemDetail(ServerProblemDetail other) {
+    super(other);
+  }
+
+  @Override
+  public ServerProblemDetail copy() {
+    return new ServerProblemDetail(this);
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -56,5 +67,13 @@ public final class ServerProblemDetail extends ProblemDetail {
     public ServerProblemDetail build() {
       return new ServerProblemDetail(status, title, detail);
     }
+
+    /**
+     * Returns a frozen instance, shared with every other builder set to the same status, title
+     * and detail.
+     */
+    public ServerProblemDetail buildShared() {
+      return SHARED.get(status, title, detail, this::build);
+    }
   }
 }
@@ -0,0 +1,219 @@
+package com.example.exception.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Validates the items of a list in parallel and merges their errors into a single
+ * {@link ValidationProblemDetail}. The validator reports refs relative to the item, e.g.
+ * {@code email}, and each error is re-rooted under the list ref and the item index, e.g.
+ * {@code users[42].email}, through a {@link RefPath} sharing the item prefix and rendered only when
+ * read. Errors are merged in item order whichever chunk finishes first, so the result is the same
+ * as a sequential loop would give.
+ *
+ * <p>Items are split into contiguous chunks of at least {@link Builder#minChunkSize(int)} items;
+ * the first chunk runs on the calling thread and the others on the configured executor, the common
+ * fork-join pool by default. Validators that block, e.g. on a uniqueness lookup, are better served
+ * by {@code Executors.newVirtualThreadPerTaskExecutor()} and a small chunk size. Instances are
+ * immutable and meant to be shared.
+ *
+ * @param <T> the item type
+ */
+public final class BatchValidation<T> {
+
+  private static final int DEFAULT_MIN_CHUNK_SIZE = 32;
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private final RefPath ref;
+  private final ItemValidator<? super T> validator;
+  private final Executor executor;
+  private final int parallelism;
+  private final int minChunkSize;
+  private final int maxErrors;
+  private final boolean deduplicate;
+
+  private BatchValidation(Builder<T> builder) {
+    this.ref = builder.ref;
+    this.validator = builder.validator;
+    this.executor = builder.executor;
+    this.parallelism = builder.parallelism;
+    this.minChunkSize = builder.minChunkSize;
+    this.maxErrors = builder.maxErrors;
+    this.deduplicate = builder.deduplicate;
+  }
+
+  /**
+   * Starts a batch validation of the list at {@code ref}, e.g. {@code users}, with
+   * {@code validator} applied to each item.
+   */
+  public static <T> Builder<T> builder(String ref, ItemValidator<? super T> validator) {
+    return new Builder<>(ref == null || ref.isEmpty() ? null : RefPath.of(ref), validator);
+  }
+
+  /**
+   * Starts a batch validation of the list at {@code ref}, e.g. {@code orders[2].items}.
+   */
+  public static <T> Builder<T> builder(RefPath ref, ItemValidator<? super T> validator) {
+    return new Builder<>(ref, validator);
+  }
+
+  /**
+   * Validates {@code items} and returns the merged problem detail, or empty if every item is valid.
+   * An exception thrown by the validator is rethrown on the calling thread.
+   */
+  public Optional<ValidationProblemDetail> validate(List<? extends T> items) {
+    int size = items.size();
+    // A single worker thread cannot overlap with the caller enough to pay for the handoff
+    int chunkCount = parallelism == 1 ? 1
+        : Math.max(1, Math.min(parallelism * CHUNKS_PER_THREAD, size / minChunkSize));
+    int chunkSize = (size + chunkCount - 1) / chunkCount;
+
+    List<CompletableFuture<List<ValidationError>>> pending = new ArrayList<>(chunkCount - 1);
+    for (int from = chunkSize; from < size; from += chunkSize) {
+      int start = from;
+      int end = Math.min(size, from + chunkSize);
+      pending.add(CompletableFuture.supplyAsync(() -> validate(items, start, end), executor));
+    }
+
+    List<ValidationError> first;
+    try {
+      first = validate(items, 0, Math.min(size, chunkSize));
+    } catch (RuntimeException | Error e) {
+      pending.forEach(future -> future.cancel(false));
+      throw e;
+    }
+
+    List<List<ValidationError>> chunks = new ArrayList<>(chunkCount);
+    chunks.add(first);
+    int errorCount = first.size();
+    for (CompletableFuture<List<ValidationError>> future : pending) {
+      List<ValidationError> chunk = join(future);
+      chunks.add(chunk);
+      errorCount += chunk.size();
+    }
+    if (errorCount == 0) {
+      return Optional.empty();
+    }
+
+    ValidationProblemDetail.Builder builder = ValidationProblemDetail.builder()
+        .maxErrors(maxErrors);
+    if (deduplicate) {
+      builder.deduplicate();
+    }
+    builder.expectedErrors(errorCount);
+    chunks.forEach(builder::errors);
+    return Optional.of(builder.build());
+  }
+
+  private List<ValidationError> validate(List<? extends T> items, int from, int to) {
+    List<ValidationError> errors = List.of();
+    for (int index = from; index < to; index++) {
+      List<? extends ValidationError> itemErrors = validator.validate(items.get(index));
+      if (itemErrors.isEmpty()) {
+        continue;
+      }
+      if (errors.isEmpty()) {
+        errors = new ArrayList<>();
+      }
+      RefPath prefix = ref == null ? RefPath.ofIndex(index) : ref.index(index);
+      for (ValidationError error : itemErrors) {
+        errors.add(error.withRef(prefix.resolve(error.refSource())));
+      }
+    }
+    return errors;
+  }
+
+  private static List<ValidationError> join(CompletableFuture<List<ValidationError>> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Validates a single item, returning its errors with refs relative to the item.
+   *
+   * @param <T> the item type
+   */
+  @FunctionalInterface
+  public interface ItemValidator<T> {
+
+    List<? extends ValidationError> validate(T item);
+  }
+
+  public static final class Builder<T> {
+
+    private final RefPath ref;
+    private final ItemValidator<? super T> validator;
+    private Executor executor = ForkJoinPool.commonPool();
+    private int parallelism = ForkJoinPool.getCommonPoolParallelism();
+    private int minChunkSize = DEFAULT_MIN_CHUNK_SIZE;
+    private int maxErrors = Integer.MAX_VALUE;
+    private boolean deduplicate;
+
+    private Builder(RefPath ref, ItemValidator<? super T> validator) {
+      this.ref = ref;
+      this.validator = validator;
+    }
+
+    /**
+     * Runs chunks on {@code executor}, spread over {@code parallelism} threads. With a parallelism
+     * of 1 every item is validated on the calling thread.
+     */
+    public Builder<T> executor(Executor executor, int parallelism) {
+      if (parallelism < 1) {
+        throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+      }
+      this.executor = executor;
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Sets the smallest number of items worth handing to another thread. Lists shorter than twice
+     * this are validated on the calling thread.
+     */
+    public Builder<T> minChunkSize(int minChunkSize) {
+      if (minChunkSize < 1) {
+        throw new IllegalArgumentException("minChunkSize must be positive: " + minChunkSize);
+      }
+      this.minChunkSize = minChunkSize;
+      return this;
+    }
+
+    /**
+     * See {@link ValidationProblemDetail.Builder#maxErrors(int)}.
+     */
+    public Builder<T> maxErrors(int maxErrors) {
+      if (maxErrors < 0) {
+        throw new IllegalArgumentException("maxErrors must not be negative: " + maxErrors);
+      }
+      this.maxErrors = maxErrors;
+      return this;
+    }
+
+    /**
+     * See {@link ValidationProblemDetail.Builder#deduplicate()}.
+     */
+    public Builder<T> deduplicate() {
+      this.deduplicate = true;
+      return this;
+    }
+
+    public BatchValidation<T> build() {
+      return new BatchValidation<>(this);
+    }
+  }
+}
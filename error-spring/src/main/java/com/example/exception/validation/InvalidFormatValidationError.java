@@ -1,8 +1,5 @@
 package com.example.exception.validation;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
-
 /**
  * Validation error for invalid format issues.
  */
@@ -10,11 +7,8 @@ public final class InvalidFormatValidationError extends ValidationError {
 
   private static final ValidationErrorCode CODE = ValidationErrorCode.INVALID_FORMAT;
 
-  @JsonCreator
-  private InvalidFormatValidationError(
-      @JsonProperty("detail") String detail,
-      @JsonProperty("ref") String ref,
-      @JsonProperty("attributes") InvalidFormatAttributes attributes) {
+  private InvalidFormatValidationError(CharSequence detail, CharSequence ref,
+      InvalidFormatAttributes attributes) {
     super(CODE.getCode(), detail, ref, attributes);
   }
 
@@ -27,6 +21,11 @@ public final class InvalidFormatValidationError extends ValidationError {
     return (InvalidFormatAttributes) super.getAttributes();
   }
 
+  @Override
+  InvalidFormatValidationError withRef(CharSequence ref) {
+    return new InvalidFormatValidationError(detailSource(), ref, getAttributes());
+  }
+
   public static final class Builder
       extends ValidationError.Builder<InvalidFormatAttributes, InvalidFormatValidationError> {
 
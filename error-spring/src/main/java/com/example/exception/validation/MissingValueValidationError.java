@@ -1,8 +1,5 @@
 package com.example.exception.validation;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
-
 /**
  * Validation error for missing required values.
  */
@@ -10,11 +7,8 @@ public final class MissingValueValidationError extends ValidationError {
 
   private static final ValidationErrorCode CODE = ValidationErrorCode.MISSING_VALUE;
 
-  @JsonCreator
-  private MissingValueValidationError(
-      @JsonProperty("detail") String detail,
-      @JsonProperty("ref") String ref,
-      @JsonProperty("attributes") MissingValueAttributes attributes) {
+  private MissingValueValidationError(CharSequence detail, CharSequence ref,
+      MissingValueAttributes attributes) {
     super(CODE.getCode(), detail, ref, attributes);
   }
 
@@ -27,6 +21,11 @@ public final class MissingValueValidationError extends ValidationError {
     return (MissingValueAttributes) super.getAttributes();
   }
 
+  @Override
+  MissingValueValidationError withRef(CharSequence ref) {
+    return new MissingValueValidationError(detailSource(), ref, getAttributes());
+  }
+
   public static final class Builder
       extends ValidationError.Builder<MissingValueAttributes, MissingValueValidationError> {
 
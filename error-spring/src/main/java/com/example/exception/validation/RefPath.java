@@ -0,0 +1,205 @@
+package com.example.exception.validation;
+
+import java.util.Objects;
+
+/**
+ * Immutable, append-only path to a field of a request payload, e.g. {@code users[3].email}. Each
+ * {@link #property(String)} or {@link #index(int)} returns a new node that links to this one, so
+ * sibling fields share their prefix and a deep validator allocates one small node per level
+ * instead of a concatenated string. The path is rendered to a {@link String} once, on its first
+ * {@code toString()}, which a {@link ValidationError} holding it defers until its ref is read or
+ * serialized, so refs of errors that are dropped or never written are never rendered. Its hash
+ * code is that of the rendered {@code String}, computed from the parent's without rendering either.
+ */
+public final class RefPath implements CharSequence {
+
+  private final RefPath parent;
+  private final String name;
+  private final int index;
+  private final int length;
+  // Racy single-check: a String is safe to publish without synchronization
+  private String rendered;
+  // Racy single-check like String's own, zero until computed
+  private int hash;
+
+  private RefPath(RefPath parent, String name, int index, int length) {
+    this.parent = parent;
+    this.name = name;
+    this.index = index;
+    this.length = length;
+  }
+
+  /**
+   * Returns a path to the top-level field {@code name}.
+   */
+  public static RefPath of(String name) {
+    return new RefPath(null, name, -1, name.length());
+  }
+
+  /**
+   * Returns a path to the top-level element at {@code index}, rendered as {@code [index]}.
+   */
+  public static RefPath ofIndex(int index) {
+    return new RefPath(null, null, checkIndex(index), digits(index) + 2);
+  }
+
+  /**
+   * Returns the path to the field {@code name} of this one.
+   */
+  public RefPath property(String name) {
+    return new RefPath(this, name, -1, length + 1 + name.length());
+  }
+
+  /**
+   * Returns the path to the element at {@code index} of this one.
+   */
+  public RefPath index(int index) {
+    return new RefPath(this, null, checkIndex(index), length + digits(index) + 2);
+  }
+
+  /**
+   * Appends {@code ref}, relative to this path, e.g. {@code email} or {@code [0].email}. A null or
+   * empty ref resolves to this path and a {@code RefPath} is re-rooted node by node.
+   */
+  public RefPath resolve(CharSequence ref) {
+    if (ref == null || ref.isEmpty()) {
+      return this;
+    }
+    if (ref instanceof RefPath path) {
+      RefPath base = path.parent != null ? resolve(path.parent) : this;
+      if (path.name == null) {
+        return base.index(path.index);
+      }
+      return path.isSeparated() ? base.property(path.name) : base.append(path.name);
+    }
+    String relative = ref.toString();
+    return relative.charAt(0) == '[' ? append(relative) : property(relative);
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    return toString().charAt(index);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return toString().subSequence(start, end);
+  }
+
+  /**
+   * Renders the path from its parent's, caching both, so siblings and deeper fields render only
+   * their own segment.
+   */
+  @Override
+  public String toString() {
+    String value = rendered;
+    if (value == null) {
+      if (parent == null) {
+        value = name != null ? name : "[" + index + "]";
+      } else {
+        String prefix = parent.toString();
+        if (name == null) {
+          value = prefix + '[' + index + ']';
+        } else {
+          value = isSeparated() ? prefix + '.' + name : prefix + name;
+        }
+      }
+      rendered = value;
+    }
+    return value;
+  }
+
+  /**
+   * Compares rendered paths, only rendering them when the hash codes match and the two are not
+   * built from the same segments.
+   */
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof RefPath that) || length != that.length
+        || hashCode() != that.hashCode()) {
+      return false;
+    }
+    return hasSameSegments(that) || toString().equals(that.toString());
+  }
+
+  /**
+   * Returns {@code toString().hashCode()}, extending the parent's cached hash with this node's
+   * segment.
+   */
+  @Override
+  public int hashCode() {
+    int h = hash;
+    if (h == 0) {
+      h = parent != null ? parent.hashCode() : 0;
+      if (name == null) {
+        h = 31 * h + '[';
+        int divisor = 1;
+        for (int i = digits(index); i > 1; i--) {
+          divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+          h = 31 * h + '0' + index / divisor % 10;
+        }
+        h = 31 * h + ']';
+      } else {
+        if (parent != null && isSeparated()) {
+          h = 31 * h + '.';
+        }
+        for (int i = 0; i < name.length(); i++) {
+          h = 31 * h + name.charAt(i);
+        }
+      }
+      hash = h;
+    }
+    return h;
+  }
+
+  private boolean hasSameSegments(RefPath that) {
+    RefPath a = this;
+    RefPath b = that;
+    while (a != b) {
+      if (a == null || b == null || a.index != b.index || a.length != b.length
+          || !Objects.equals(a.name, b.name)) {
+        return false;
+      }
+      a = a.parent;
+      b = b.parent;
+    }
+    return true;
+  }
+
+  /**
+   * Appends {@code segment} as is, without a separator.
+   */
+  private RefPath append(String segment) {
+    return new RefPath(this, segment, -1, length + segment.length());
+  }
+
+  private boolean isSeparated() {
+    return parent == null || length - name.length() > parent.length;
+  }
+
+  private static int checkIndex(int index) {
+    if (index < 0) {
+      throw new IllegalArgumentException("index must not be negative: " + index);
+    }
+    return index;
+  }
+
+  private static int digits(int value) {
+    int digits = 1;
+    while (value >= 10) {
+      value /= 10;
+      digits++;
+    }
+    return digits;
+  }
+}
@@ -1,28 +1,30 @@
 package com.example.exception.validation;
 
+import com.example.exception.DetailTemplate;
 import com.example.exception.ErrorAttributes;
-import com.fasterxml.jackson.annotation.JsonSubTypes;
-import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 /**
  * Base class for validation error details. Sealed to only permit specific validation error
  * implementations. Each validation error has a code, detail message, ref (field reference), and
- * type-safe attributes.
+ * type-safe attributes. A detail given as a {@link DetailTemplate} is rendered on the first call to
+ * {@link #getDetail()}, which serialization makes, and a ref given as a {@link RefPath} likewise on
+ * the first call to {@link #getRef()}. The rendered strings are published through volatile
+ * fields, so an error can be read from several threads.
  */
-@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "code")
-@JsonSubTypes({
-    @JsonSubTypes.Type(value = InvalidFormatValidationError.class, name = "invalid_format"),
-    @JsonSubTypes.Type(value = MissingValueValidationError.class, name = "missing_value")
-})
+@JsonPropertyOrder({"code", "detail", "ref", "attributes"})
+@JsonDeserialize(using = ValidationErrorDeserializer.class)
 public abstract sealed class ValidationError
     permits InvalidFormatValidationError, MissingValueValidationError {
 
   private final String code;
-  private final String detail;
-  private final String ref;
+  private volatile CharSequence detail;
+  private volatile CharSequence ref;
   private final ErrorAttributes attributes;
 
-  protected ValidationError(String code, String detail, String ref, ErrorAttributes attributes) {
+  protected ValidationError(String code, CharSequence detail, CharSequence ref,
+      ErrorAttributes attributes) {
     this.code = code;
     this.detail = detail;
     this.ref = ref;
@@ -34,21 +36,47 @@ public abstract sealed class ValidationError
   }
 
   public String getDetail() {
-    return detail;
+    CharSequence current = detail;
+    if (current == null || current instanceof String) {
+      return (String) current;
+    }
+    String rendered = current.toString();
+    detail = rendered;
+    return rendered;
   }
 
   public String getRef() {
-    return ref;
+    CharSequence current = ref;
+    if (current == null || current instanceof String) {
+      return (String) current;
+    }
+    String rendered = current.toString();
+    ref = rendered;
+    return rendered;
   }
 
   public ErrorAttributes getAttributes() {
     return attributes;
   }
 
+  /**
+   * Returns a copy of this error with {@code ref} in place of its own, keeping an unrendered detail
+   * unrendered.
+   */
+  abstract ValidationError withRef(CharSequence ref);
+
+  CharSequence detailSource() {
+    return detail;
+  }
+
+  CharSequence refSource() {
+    return ref;
+  }
+
   public abstract static class Builder<A extends ErrorAttributes, T extends ValidationError> {
 
-    protected String detail;
-    protected String ref;
+    protected CharSequence detail;
+    protected CharSequence ref;
     protected A attributes;
 
     protected Builder() {
@@ -59,11 +87,27 @@ public abstract sealed class ValidationError
       return this;
     }
 
+    /**
+     * Sets the detail to {@code template} bound to {@code args}, rendered only when read.
+     */
+    public Builder<A, T> detail(DetailTemplate template, Object... args) {
+      this.detail = template.format(args);
+      return this;
+    }
+
     public Builder<A, T> ref(String ref) {
       this.ref = ref;
       return this;
     }
 
+    /**
+     * Sets the ref to {@code path}, rendered only when read.
+     */
+    public Builder<A, T> ref(RefPath path) {
+      this.ref = path;
+      return this;
+    }
+
     public Builder<A, T> attributes(A attributes) {
       this.attributes = attributes;
       return this;
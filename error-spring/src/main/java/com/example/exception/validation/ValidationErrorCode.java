@@ -1,6 +1,9 @@
 package com.example.exception.validation;
 
 import com.example.exception.ErrorCode;
+import com.example.exception.ErrorCodeTable;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Error codes for validation errors.
@@ -10,12 +13,21 @@ public enum ValidationErrorCode implements ErrorCode {
   MISSING_VALUE("missing_value"),
   INVALID_FORMAT("invalid_format");
 
+  static final ErrorCodeTable<ValidationErrorCode> TABLE = ErrorCodeTable.of(List.of(values()));
+
   private final String code;
 
   ValidationErrorCode(String code) {
     this.code = code;
   }
 
+  /**
+   * Resolves a wire code such as {@code missing_value} to its constant.
+   */
+  public static Optional<ValidationErrorCode> resolve(CharSequence code) {
+    return Optional.ofNullable(TABLE.get(code));
+  }
+
   @Override
   public String getCode() {
     return code;
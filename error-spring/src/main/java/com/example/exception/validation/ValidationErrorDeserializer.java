@@ -0,0 +1,145 @@
+package com.example.exception.validation;
+
+import com.example.exception.ErrorAttributes;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Single-pass deserializer for {@link ValidationError}. Members are read in whatever order they
+ * arrive and the concrete subtype is picked from a registry keyed by {@link ValidationErrorCode}
+ * once {@code code} is seen. Only an {@code attributes} object that arrives before
+ * {@code code} is held back, as a tree, until its target type is known.
+ */
+final class ValidationErrorDeserializer extends StdDeserializer<ValidationError>
+    implements ContextualDeserializer {
+
+  private static final List<Binding<?>> BINDINGS = List.of(
+      new Binding<>(ValidationErrorCode.INVALID_FORMAT, InvalidFormatValidationError.class,
+          InvalidFormatAttributes.class, InvalidFormatValidationError::builder),
+      new Binding<>(ValidationErrorCode.MISSING_VALUE, MissingValueValidationError.class,
+          MissingValueAttributes.class, MissingValueValidationError::builder));
+
+  private static final Map<ValidationErrorCode, Binding<?>> BINDINGS_BY_CODE = BINDINGS.stream()
+      .collect(Collectors.toUnmodifiableMap(Binding::code, Function.identity()));
+
+  private static final Map<Class<?>, Binding<?>> BINDINGS_BY_TYPE = BINDINGS.stream()
+      .collect(Collectors.toUnmodifiableMap(Binding::type, Function.identity()));
+
+  ValidationErrorDeserializer() {
+    super(ValidationError.class);
+  }
+
+  private ValidationErrorDeserializer(Class<?> targetType) {
+    super(targetType);
+  }
+
+  @Override
+  public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+    Class<?> targetType = ctxt.getContextualType() != null
+        ? ctxt.getContextualType().getRawClass()
+        : ValidationError.class;
+    return targetType == handledType() ? this : new ValidationErrorDeserializer(targetType);
+  }
+
+  @Override
+  public ValidationError deserialize(JsonParser p, DeserializationContext ctxt)
+      throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = p.nextToken();
+    } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+      return (ValidationError) ctxt.handleUnexpectedToken(handledType(), p);
+    }
+
+    Binding<?> binding = null;
+    String code = null;
+    Object attributes = null;
+    JsonNode pendingAttributes = null;
+    String detail = null;
+    String ref = null;
+
+    for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+      String name = p.currentName();
+      p.nextToken();
+      switch (name) {
+        case "code" -> {
+          binding = binding(p);
+          code = binding != null ? binding.code().getCode() : p.getValueAsString();
+        }
+        case "attributes" -> {
+          if (p.currentToken() == JsonToken.VALUE_NULL) {
+            attributes = null;
+            pendingAttributes = null;
+          } else if (binding != null) {
+            attributes = ctxt.readValue(p, binding.attributesType());
+          } else {
+            pendingAttributes = ctxt.readTree(p);
+          }
+        }
+        case "detail" -> detail = p.getValueAsString();
+        case "ref" -> ref = p.getValueAsString();
+        default -> ctxt.handleUnknownProperty(p, this, handledType(), name);
+      }
+    }
+
+    if (binding == null) {
+      binding = BINDINGS_BY_TYPE.get(handledType());
+      if (binding == null || code != null) {
+        throw code == null
+            ? ctxt.missingTypeIdException(ctxt.constructType(handledType()), "missing 'code'")
+            : ctxt.invalidTypeIdException(ctxt.constructType(handledType()), code,
+                "unknown validation error code");
+      }
+    }
+    if (pendingAttributes != null && !pendingAttributes.isNull()) {
+      attributes = ctxt.readTreeAsValue(pendingAttributes, binding.attributesType());
+    }
+
+    ValidationError error = binding.build(detail, ref, attributes);
+    if (!handledType().isInstance(error)) {
+      return (ValidationError) ctxt.reportInputMismatch(this,
+          "Validation error code '%s' does not map to %s", code, handledType().getName());
+    }
+    return error;
+  }
+
+  /**
+   * Resolves the binding for the current string token from the parser's text buffer, without
+   * materializing the code as a String.
+   */
+  private static Binding<?> binding(JsonParser p) throws IOException {
+    if (p.currentToken() != JsonToken.VALUE_STRING) {
+      return null;
+    }
+    ValidationErrorCode code = ValidationErrorCode.TABLE.get(
+        p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+    return code != null ? BINDINGS_BY_CODE.get(code) : null;
+  }
+
+  private record Binding<A extends ErrorAttributes>(
+      ValidationErrorCode code,
+      Class<? extends ValidationError> type,
+      Class<A> attributesType,
+      Supplier<? extends ValidationError.Builder<A, ?>> builder) {
+
+    ValidationError build(String detail, String ref, Object attributes) {
+      return builder.get()
+          .detail(detail)
+          .ref(ref)
+          .attributes(attributesType.cast(attributes))
+          .build();
+    }
+  }
+}
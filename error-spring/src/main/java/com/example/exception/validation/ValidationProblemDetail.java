@@ -1,16 +1,41 @@
 package com.example.exception.validation;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonSetter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 
 /**
  * Problem detail for validation errors. Detail is not supported at root level - each
- * ValidationError has its own detail.
+ * ValidationError has its own detail. The errors are kept in a typed field and serialized through
+ * {@link #getErrors()} rather than the generic properties map.
+ *
+ * <p>Errors can also come from a streamed source, see {@link Builder#streamErrors(Supplier)}. A
+ * streamed source is iterated once, lazily, by whichever comes first of serialization and
+ * {@link #getErrors()}; serialization through {@code ProblemDetailModule} writes each error as it
+ * is produced and keeps it, so every later reader sees the same errors; {@code toString},
+ * {@code equals} and {@code hashCode} do not consume the source. At most
+ * {@link Builder#maxErrors(int)} errors are written, followed by {@code "truncated": true} if any
+ * were left out, and {@code "omittedErrors"} with the number of errors the builder dropped.
+ * Streamed errors are neither deduplicated nor counted as omitted.
+ *
+ * <p>A problem detail may be read and serialized from several threads at once, e.g. by a logger and
+ * the response writer: the streamed source is consumed under a lock by whichever thread gets there
+ * first, and the others wait for it, then see the same errors. The list {@link #getErrors()}
+ * returns is a plain {@code ArrayList}, not safe to modify while another thread reads it.
  */
 public final class ValidationProblemDetail extends ProblemDetail {
 
@@ -18,57 +43,349 @@ public final class ValidationProblemDetail extends ProblemDetail {
   private static final String TITLE = "Validation Problem";
   private static final HttpStatus STATUS = HttpStatus.BAD_REQUEST;
   private static final String ERRORS_PROPERTY = "errors";
+  private static final String TRUNCATED_PROPERTY = "truncated";
+  private static final String OMITTED_ERRORS_PROPERTY = "omittedErrors";
+
+  private final int maxErrors;
+  // Both published once a streamed source is consumed, errors first, under the instance's lock
+  private volatile List<ValidationError> errors;
+  private volatile Supplier<? extends Iterator<? extends ValidationError>> pendingErrors;
+  private boolean truncated;
+  private int omittedErrors;
 
   ValidationProblemDetail() {
-    super(STATUS.value());
-    setType(TYPE);
-    setTitle(TITLE);
-    setProperty(ERRORS_PROPERTY, new ArrayList<ValidationError>());
+    this(new ArrayList<>(), null, Integer.MAX_VALUE, 0);
   }
 
-  private ValidationProblemDetail(List<ValidationError> errors) {
+  private ValidationProblemDetail(List<ValidationError> errors,
+      Supplier<? extends Iterator<? extends ValidationError>> pendingErrors, int maxErrors,
+      int omittedErrors) {
     super(STATUS.value());
     setType(TYPE);
     setTitle(TITLE);
-    setProperty(ERRORS_PROPERTY, new ArrayList<>(errors));
+    this.errors = errors;
+    this.pendingErrors = pendingErrors;
+    this.maxErrors = maxErrors;
+    this.omittedErrors = omittedErrors;
+    this.truncated = omittedErrors > 0;
   }
 
   public static Builder builder() {
     return new Builder();
   }
 
-  @SuppressWarnings("unchecked")
+  /**
+   * Returns the errors as a mutable list, first collecting those of a streamed source that has not
+   * been consumed. Errors built by the {@link Builder} are held in its array until this is first
+   * called, which copies them into a list of their own; serialization reads them in place.
+   */
+  @JsonInclude(JsonInclude.Include.ALWAYS)
   public List<ValidationError> getErrors() {
-    return (List<ValidationError>) Optional.ofNullable(getProperties())
-        .map(it -> it.get(ERRORS_PROPERTY))
-        .orElseGet(ArrayList::new);
+    List<ValidationError> current = collectedErrors();
+    if (current.getClass() != ArrayList.class) {
+      synchronized (this) {
+        current = errors;
+        if (current.getClass() != ArrayList.class) {
+          current = new ArrayList<>(current);
+          errors = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Whether errors beyond the configured maximum were left out.
+   */
+  @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+  public boolean isTruncated() {
+    return collectedErrors().size() > maxErrors || truncated;
+  }
+
+  /**
+   * Number of errors the builder dropped for exceeding the configured maximum. Errors cut off from
+   * a streamed source are not counted, only flagged by {@link #isTruncated()}.
+   */
+  @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+  public int getOmittedErrors() {
+    return omittedErrors;
+  }
+
+  /**
+   * Whether the errors come from a streamed source that has not been consumed yet, which
+   * {@link #getErrors()} would collect.
+   */
+  @JsonIgnore
+  public boolean isStreamed() {
+    return pendingErrors != null;
+  }
+
+  /**
+   * Passes each error to {@code writer}, up to the configured maximum, and returns whether any
+   * errors were left out. A streamed source is consumed as its errors are written, and the written
+   * errors are kept, so later reads and serializations see the same errors.
+   */
+  public boolean writeErrors(ErrorWriter writer) throws IOException {
+    if (pendingErrors != null) {
+      synchronized (this) {
+        if (pendingErrors != null) {
+          List<ValidationError> current = errors;
+          int written = Math.min(current.size(), maxErrors);
+          for (int i = 0; i < written; i++) {
+            writer.write(current.get(i));
+          }
+          drain(written, writer);
+          return truncated;
+        }
+      }
+    }
+    List<ValidationError> current = errors;
+    int written = Math.min(current.size(), maxErrors);
+    for (int i = 0; i < written; i++) {
+      writer.write(current.get(i));
+    }
+    return written < current.size() || truncated;
+  }
+
+  private List<ValidationError> collectedErrors() {
+    if (pendingErrors != null) {
+      synchronized (this) {
+        if (pendingErrors != null) {
+          try {
+            drain(Math.min(errors.size(), maxErrors), null);
+          } catch (IOException e) {
+            // Only a writer throws
+            throw new UncheckedIOException(e);
+          }
+        }
+      }
+    }
+    return errors;
+  }
+
+  /**
+   * Consumes the streamed source after the first {@code written} errors, passing each error to
+   * {@code writer} if there is one. Called holding the lock, while the source is pending; whatever
+   * was consumed is kept even if {@code writer} fails.
+   */
+  private void drain(int written, ErrorWriter writer) throws IOException {
+    // Collect into a list of our own, the current one may still be the builder's
+    List<ValidationError> collected = new ArrayList<>(errors.subList(0, written));
+    Iterator<? extends ValidationError> source = pendingErrors.get();
+    try {
+      for (; written < maxErrors && source.hasNext(); written++) {
+        ValidationError error = source.next();
+        collected.add(error);
+        if (writer != null) {
+          writer.write(error);
+        }
+      }
+      truncated |= source.hasNext();
+    } finally {
+      errors = collected;
+      pendingErrors = null;
+    }
   }
 
   @JsonSetter(ERRORS_PROPERTY)
   private void setErrors(List<ValidationError> errors) {
-    getErrors().clear();
-    getErrors().addAll(errors);
+    this.errors = new ArrayList<>(errors);
+  }
+
+  @JsonSetter(TRUNCATED_PROPERTY)
+  private void setTruncated(boolean truncated) {
+    this.truncated = truncated;
+  }
+
+  @JsonSetter(OMITTED_ERRORS_PROPERTY)
+  private void setOmittedErrors(int omittedErrors) {
+    this.omittedErrors = omittedErrors;
+  }
+
+  /**
+   * Compares collected errors. A streamed source that has not been consumed is not read, so a
+   * problem detail holding one only equals itself.
+   */
+  @Override
+  public boolean equals(Object other) {
+    return this == other || (other instanceof ValidationProblemDetail that && super.equals(that)
+        && pendingErrors == null && that.pendingErrors == null
+        && errors.equals(that.errors) && isTruncated() == that.isTruncated()
+        && omittedErrors == that.omittedErrors);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(super.hashCode(), errors, errors.size() > maxErrors || truncated,
+        omittedErrors);
+  }
+
+  @Override
+  protected String initToStringContent() {
+    return super.initToStringContent() + ", errors='" + errors + "'"
+        + (pendingErrors != null ? ", streamedErrors=pending" : "")
+        + (truncated || errors.size() > maxErrors ? ", truncated=true" : "")
+        + (omittedErrors > 0 ? ", omittedErrors=" + omittedErrors : "");
+  }
+
+  /**
+   * Receives the errors of a {@link ValidationProblemDetail} one at a time.
+   */
+  @FunctionalInterface
+  public interface ErrorWriter {
+
+    void write(ValidationError error) throws IOException;
   }
 
   public static final class Builder {
 
-    private final List<ValidationError> errors = new ArrayList<>();
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final ValidationError[] EMPTY = new ValidationError[0];
+
+    private ValidationError[] errors = EMPTY;
+    private int size;
+    private boolean shared;
+    private int omittedErrors;
+    private Set<ErrorKey> seen;
+    private Supplier<? extends Iterator<? extends ValidationError>> streamedErrors;
+    private int maxErrors = Integer.MAX_VALUE;
 
     private Builder() {
     }
 
+    /**
+     * Adds an error, unless the builder already holds {@link #maxErrors(int)} errors, in which case
+     * it is counted as omitted, or it duplicates an earlier one while {@link #deduplicate()} is on.
+     */
     public Builder error(ValidationError error) {
-      this.errors.add(error);
+      if (size >= maxErrors) {
+        // Once full, errors are only counted; duplicates no longer need telling apart
+        omittedErrors++;
+        return this;
+      }
+      if (seen != null && !seen.add(new ErrorKey(error.getCode(), error.refSource()))) {
+        return this;
+      }
+      if (shared || size == errors.length) {
+        grow();
+      }
+      errors[size++] = error;
       return this;
     }
 
     public Builder errors(List<? extends ValidationError> errors) {
-      this.errors.addAll(errors);
+      for (ValidationError error : errors) {
+        error(error);
+      }
       return this;
     }
 
+    /**
+     * Appends the errors of the iterator returned by {@code source}, which is only called when the
+     * problem detail is serialized or its errors are read, and at most once, so
+     * {@code stream::iterator} works. Streamed errors skip {@link #deduplicate()} and are not
+     * counted in {@code omittedErrors}: errors past the maximum only set the truncation marker.
+     */
+    public Builder streamErrors(Supplier<? extends Iterator<? extends ValidationError>> source) {
+      this.streamedErrors = source;
+      return this;
+    }
+
+    /**
+     * Caps the number of errors kept and written. Errors added beyond it are dropped and counted
+     * in {@code omittedErrors}; a streamed source is cut off with a truncation marker.
+     */
+    public Builder maxErrors(int maxErrors) {
+      if (maxErrors < 0) {
+        throw new IllegalArgumentException("maxErrors must not be negative: " + maxErrors);
+      }
+      this.maxErrors = maxErrors;
+      return this;
+    }
+
+    /**
+     * Pre-sizes the builder for {@code expectedErrors} errors, bounded by {@link #maxErrors(int)}.
+     */
+    public Builder expectedErrors(int expectedErrors) {
+      int capacity = Math.min(expectedErrors, maxErrors);
+      if (capacity > errors.length) {
+        errors = Arrays.copyOf(errors, capacity);
+        shared = false;
+      }
+      return this;
+    }
+
+    /**
+     * Drops errors with the same {@code code} and {@code ref} as an error added before. Refs are
+     * compared as given, a {@link RefPath} is not materialized on the error, and only the errors
+     * kept before {@link #maxErrors(int)} is reached are remembered, so {@code omittedErrors}
+     * counts duplicates among the errors past it. Streamed errors are not deduplicated.
+     */
+    public Builder deduplicate() {
+      if (seen == null) {
+        seen = new HashSet<>();
+        ValidationError[] kept = new ValidationError[errors.length];
+        int keptSize = 0;
+        for (int i = 0; i < size; i++) {
+          if (seen.add(new ErrorKey(errors[i].getCode(), errors[i].refSource()))) {
+            kept[keptSize++] = errors[i];
+          }
+        }
+        errors = kept;
+        size = keptSize;
+        shared = false;
+      }
+      return this;
+    }
+
+    /**
+     * Builds the problem detail around the builder's error array without copying it. The array is
+     * copied before the builder is modified again, so the problem detail never changes with it.
+     */
     public ValidationProblemDetail build() {
-      return new ValidationProblemDetail(errors);
+      int kept = Math.min(size, maxErrors);
+      shared = true;
+      return new ValidationProblemDetail(
+          Collections.unmodifiableList(Arrays.asList(errors).subList(0, kept)),
+          streamedErrors, maxErrors, omittedErrors + size - kept);
+    }
+
+    private void grow() {
+      int capacity = errors.length;
+      if (size == capacity) {
+        capacity = (int) Math.min(Math.max(DEFAULT_CAPACITY, 2L * capacity), maxErrors);
+      }
+      errors = Arrays.copyOf(errors, capacity);
+      shared = false;
+    }
+
+    /**
+     * Refs may be strings or {@link RefPath}s, which hash alike, so they are compared by content,
+     * without rendering a {@code RefPath} unless it is compared with a string of the same hash.
+     */
+    private record ErrorKey(String code, CharSequence ref) {
+
+      @Override
+      public boolean equals(Object other) {
+        return other instanceof ErrorKey that && Objects.equals(code, that.code)
+            && (ref == null ? that.ref == null : that.ref != null && sameRef(ref, that.ref));
+      }
+
+      @Override
+      public int hashCode() {
+        return 31 * Objects.hashCode(code) + (ref == null ? 0 : hash(ref));
+      }
+
+      // String's hash of the ref; a RefPath computes it without being rendered
+      private static int hash(CharSequence ref) {
+        return ref instanceof RefPath || ref instanceof String ? ref.hashCode()
+            : ref.toString().hashCode();
+      }
+
+      private static boolean sameRef(CharSequence ref, CharSequence other) {
+        return ref instanceof RefPath path && other instanceof RefPath otherPath
+            ? path.equals(otherPath) : CharSequence.compare(ref, other) == 0;
+      }
     }
   }
 }
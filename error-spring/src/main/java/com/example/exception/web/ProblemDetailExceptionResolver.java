@@ -0,0 +1,76 @@
+package com.example.exception.web;
+
+import com.example.exception.ApiErrorResponseException;
+import com.example.exception.SharedProblemDetail;
+import com.example.exception.metrics.ErrorMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.handler.AbstractHandlerExceptionResolver;
+
+/**
+ * Writes {@link ApiErrorResponseException}s as {@code application/problem+json} straight to the
+ * response, ahead of Spring's {@code ResponseEntityExceptionHandler} and message converter
+ * negotiation. Register it first, e.g. from
+ * {@code WebMvcConfigurer.extendHandlerExceptionResolvers} with {@code resolvers.add(0, ...)}.
+ *
+ * <p>A frozen body from {@code buildShared()} is serialized once and its bytes are written as is on
+ * every later throw, unless the exception's copy of it was modified; any other body is serialized
+ * to the response stream. Bodies are written as built: no {@code instance} is filled in and no
+ * detail is resolved from a {@code MessageSource}. Every exception it resolves is counted in
+ * {@link ErrorMetrics#global()}. Other exceptions are left to the next resolver.
+ */
+public final class ProblemDetailExceptionResolver extends AbstractHandlerExceptionResolver {
+
+  private static final String CONTENT_TYPE = MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+
+  private final ProblemDetailWriter writer;
+
+  /**
+   * Creates a resolver serializing with {@code objectMapper}, which should have the
+   * {@code ProblemDetail} mixin and {@code ProblemDetailModule} registered.
+   */
+  public ProblemDetailExceptionResolver(ObjectMapper objectMapper) {
+    this.writer = new ProblemDetailWriter(objectMapper);
+    setOrder(Ordered.HIGHEST_PRECEDENCE);
+  }
+
+  @Override
+  protected ModelAndView doResolveException(HttpServletRequest request,
+      HttpServletResponse response, Object handler, Exception ex) {
+    if (!(ex instanceof ApiErrorResponseException exception) || response.isCommitted()) {
+      return null;
+    }
+    ErrorMetrics.global().record(exception);
+    try {
+      write(exception, response);
+      return new ModelAndView();
+    } catch (IOException e) {
+      logger.warn("Failure while writing problem detail for [" + ex.getClass().getName() + "]", e);
+      return null;
+    }
+  }
+
+  private void write(ApiErrorResponseException exception, HttpServletResponse response)
+      throws IOException {
+    ProblemDetail body = exception.getBody();
+    response.setStatus(exception.getStatusCode().value());
+    exception.getHeaders().forEach((name, values) -> values.forEach(
+        value -> response.addHeader(name, value)));
+    response.setContentType(CONTENT_TYPE);
+
+    SharedProblemDetail shared = exception.getSharedBody();
+    byte[] bytes = shared != null ? writer.renderedBytes(shared) : null;
+    if (bytes != null) {
+      response.setContentLength(bytes.length);
+      response.getOutputStream().write(bytes);
+    } else {
+      writer.write(body, response.getOutputStream());
+    }
+  }
+}
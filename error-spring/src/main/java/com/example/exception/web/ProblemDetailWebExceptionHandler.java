@@ -0,0 +1,119 @@
+package com.example.exception.web;
+
+import com.example.exception.ApiErrorResponseException;
+import com.example.exception.SharedProblemDetail;
+import com.example.exception.metrics.ErrorMetrics;
+import com.example.exception.validation.ValidationProblemDetail;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executor;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive counterpart of {@link ProblemDetailExceptionResolver}: writes
+ * {@link ApiErrorResponseException}s as {@code application/problem+json} straight into
+ * {@link DataBuffer}s from the response's own factory, pooled on Netty, ahead of Spring Boot's
+ * error handler and the codec path. Declare it as a bean; it defaults to the highest precedence.
+ *
+ * <p>A frozen body from {@code buildShared()} is written from its cached bytes, wrapped rather than
+ * copied, unless the exception's copy of it was modified. Other bodies are serialized into a single
+ * buffer on the calling thread, except a validation problem detail with a streamed source or more
+ * than the streaming threshold of errors, which is serialized on the streaming executor and emitted
+ * in chunks as the response consumes them, so neither the event loop blocks nor the whole body is
+ * held in memory. Every exception it handles is counted in {@link ErrorMetrics#global()}. Reactor
+ * is only needed on the classpath when this handler is used.
+ */
+public final class ProblemDetailWebExceptionHandler implements WebExceptionHandler, Ordered {
+
+  private static final MediaType CONTENT_TYPE = MediaType.APPLICATION_PROBLEM_JSON;
+  private static final int DEFAULT_STREAMING_THRESHOLD = 64;
+  private static final int INITIAL_BUFFER_SIZE = 512;
+  private static final int CHUNK_SIZE = 8192;
+
+  private final ProblemDetailWriter writer;
+  private final Executor streamingExecutor;
+  private final int streamingThreshold;
+
+  /**
+   * Creates a handler serializing with {@code objectMapper} and streaming large validation
+   * problem details on Reactor's bounded elastic scheduler.
+   */
+  public ProblemDetailWebExceptionHandler(ObjectMapper objectMapper) {
+    this(objectMapper, Schedulers.boundedElastic()::schedule, DEFAULT_STREAMING_THRESHOLD);
+  }
+
+  /**
+   * Creates a handler streaming validation problem details with more than
+   * {@code streamingThreshold} errors on {@code streamingExecutor}.
+   */
+  public ProblemDetailWebExceptionHandler(ObjectMapper objectMapper, Executor streamingExecutor,
+      int streamingThreshold) {
+    this.writer = new ProblemDetailWriter(objectMapper);
+    this.streamingExecutor = streamingExecutor;
+    this.streamingThreshold = streamingThreshold;
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+
+  @Override
+  public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+    ServerHttpResponse response = exchange.getResponse();
+    if (!(ex instanceof ApiErrorResponseException exception) || response.isCommitted()) {
+      return Mono.error(ex);
+    }
+    ErrorMetrics.global().record(exception);
+    response.setStatusCode(exception.getStatusCode());
+    response.getHeaders().addAll(exception.getHeaders());
+    response.getHeaders().setContentType(CONTENT_TYPE);
+
+    ProblemDetail body = exception.getBody();
+    DataBufferFactory bufferFactory = response.bufferFactory();
+    if (isLarge(body)) {
+      return response.writeWith(DataBufferUtils.outputStreamPublisher(out -> {
+        try {
+          writer.write(body, out);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }, bufferFactory, streamingExecutor, CHUNK_SIZE));
+    }
+
+    DataBuffer buffer = null;
+    try {
+      SharedProblemDetail shared = exception.getSharedBody();
+      byte[] bytes = shared != null ? writer.renderedBytes(shared) : null;
+      if (bytes != null) {
+        response.getHeaders().setContentLength(bytes.length);
+        buffer = bufferFactory.wrap(bytes);
+      } else {
+        buffer = bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+        writer.write(body, buffer.asOutputStream());
+      }
+    } catch (IOException | RuntimeException e) {
+      if (buffer != null) {
+        DataBufferUtils.release(buffer);
+      }
+      return Mono.error(e);
+    }
+    return response.writeWith(Mono.just(buffer));
+  }
+
+  private boolean isLarge(ProblemDetail body) {
+    return body instanceof ValidationProblemDetail validation
+        && (validation.isStreamed() || validation.getErrors().size() > streamingThreshold);
+  }
+}
@@ -0,0 +1,53 @@
+package com.example.exception.web;
+
+import com.example.exception.SharedProblemDetail;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.ProblemDetail;
+
+/**
+ * Serializes problem detail bodies for the exception handlers, keeping the bytes of frozen bodies
+ * from {@code buildShared()} after their first use. Up to {@value #MAX_RENDERED} bodies are kept;
+ * the bytes of further ones are rendered every time.
+ */
+final class ProblemDetailWriter {
+
+  private static final int MAX_RENDERED = 512;
+
+  private final ObjectWriter writer;
+  private final Map<ProblemDetail, byte[]> rendered = new ConcurrentHashMap<>();
+
+  ProblemDetailWriter(ObjectMapper objectMapper) {
+    this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  }
+
+  /**
+   * Returns the serialized bytes of {@code body} if it is frozen, or null if it is not.
+   */
+  byte[] renderedBytes(ProblemDetail body) throws IOException {
+    if (!isShared(body)) {
+      return null;
+    }
+    byte[] bytes = rendered.get(body);
+    if (bytes == null) {
+      bytes = writer.writeValueAsBytes(body);
+      if (rendered.size() < MAX_RENDERED) {
+        rendered.putIfAbsent(body, bytes);
+      }
+    }
+    return bytes;
+  }
+
+  void write(ProblemDetail body, OutputStream out) throws IOException {
+    writer.writeValue(out, body);
+  }
+
+  private static boolean isShared(ProblemDetail body) {
+    return body instanceof SharedProblemDetail shared && shared.isFrozen();
+  }
+}
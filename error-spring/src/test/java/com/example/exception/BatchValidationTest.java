@@ -0,0 +1,164 @@
+package com.example.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.exception.validation.BatchValidation;
+import com.example.exception.validation.InvalidFormatAttributes;
+import com.example.exception.validation.InvalidFormatValidationError;
+import com.example.exception.validation.MissingValueValidationError;
+import com.example.exception.validation.ValidationError;
+import com.example.exception.validation.ValidationProblemDetail;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class BatchValidationTest {
+
+  private static final DetailTemplate INVALID_EMAIL =
+      DetailTemplate.of("{} is not a valid email address");
+
+  private static List<ValidationError> validateUser(User user) {
+    if (user.email() == null) {
+      return List.of(MissingValueValidationError.builder().ref("email").build());
+    }
+    if (!user.email().contains("@")) {
+      return List.of(InvalidFormatValidationError.builder()
+          .detail(INVALID_EMAIL, user.email())
+          .ref("email")
+          .attributes(InvalidFormatAttributes.builder().pattern(".+@.+").build())
+          .build());
+    }
+    return List.of();
+  }
+
+  private static List<User> users(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> new User(i % 7 == 0 ? null : i % 5 == 0 ? "user" + i : "user" + i + "@x"))
+        .toList();
+  }
+
+  @Nested
+  class Merging {
+
+    @Test
+    void shouldIndexRefsInItemOrder() {
+      BatchValidation<User> validation = BatchValidation.builder("users",
+              BatchValidationTest::validateUser)
+          .minChunkSize(1)
+          .build();
+
+      ValidationProblemDetail problemDetail = validation.validate(users(1_000)).orElseThrow();
+
+      List<String> expected = IntStream.range(0, 1_000)
+          .filter(i -> i % 7 == 0 || i % 5 == 0)
+          .mapToObj(i -> "users[" + i + "].email")
+          .toList();
+      assertThat(problemDetail.getErrors()).extracting(ValidationError::getRef)
+          .containsExactlyElementsOf(expected);
+      assertThat(problemDetail.getErrors().get(1))
+          .isInstanceOf(InvalidFormatValidationError.class)
+          .extracting(ValidationError::getDetail)
+          .isEqualTo("user5 is not a valid email address");
+    }
+
+    @Test
+    void shouldMatchSequentialResultOnExecutor() {
+      List<User> users = users(500);
+      ValidationProblemDetail sequential = BatchValidation.builder("users",
+              BatchValidationTest::validateUser)
+          .minChunkSize(Integer.MAX_VALUE)
+          .build()
+          .validate(users)
+          .orElseThrow();
+
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      ValidationProblemDetail parallel;
+      try {
+        parallel = BatchValidation.builder("users", BatchValidationTest::validateUser)
+            .executor(executor, 4)
+            .minChunkSize(1)
+            .build()
+            .validate(users)
+            .orElseThrow();
+      } finally {
+        executor.shutdown();
+      }
+
+      assertThat(parallel.getErrors()).extracting(ValidationError::getRef)
+          .containsExactlyElementsOf(sequential.getErrors().stream()
+              .map(ValidationError::getRef)
+              .toList());
+    }
+
+    @Test
+    void shouldJoinItemRefs() {
+      BatchValidation<String> validation = BatchValidation.<String>builder("tags",
+              tag -> List.of(
+                  MissingValueValidationError.builder().build(),
+                  MissingValueValidationError.builder().ref("[0]").build()))
+          .build();
+
+      ValidationProblemDetail problemDetail = validation.validate(List.of("a")).orElseThrow();
+
+      assertThat(problemDetail.getErrors()).extracting(ValidationError::getRef)
+          .containsExactly("tags[0]", "tags[0][0]");
+    }
+
+    @Test
+    void shouldReturnEmptyWhenAllItemsAreValid() {
+      BatchValidation<User> validation = BatchValidation.builder("users",
+              BatchValidationTest::validateUser)
+          .build();
+
+      assertThat(validation.validate(List.of(new User("a@x"), new User("b@x")))).isEmpty();
+      assertThat(validation.validate(List.of())).isEmpty();
+    }
+
+    @Test
+    void shouldApplyCapAndDeduplication() {
+      BatchValidation<User> validation = BatchValidation.<User>builder("users",
+              user -> List.of(
+                  MissingValueValidationError.builder().ref("email").build(),
+                  MissingValueValidationError.builder().ref("email").build()))
+          .minChunkSize(1)
+          .maxErrors(3)
+          .deduplicate()
+          .build();
+
+      ValidationProblemDetail problemDetail = validation.validate(users(10)).orElseThrow();
+
+      assertThat(problemDetail.getErrors()).extracting(ValidationError::getRef)
+          .containsExactly("users[0].email", "users[1].email", "users[2].email");
+      assertThat(problemDetail.getOmittedErrors()).isEqualTo(15);
+    }
+  }
+
+  @Test
+  void shouldRethrowValidatorFailureFromExecutor() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      BatchValidation<User> validation = BatchValidation.<User>builder("users", user -> {
+            if ("user99@x".equals(user.email())) {
+              throw new IllegalStateException("lookup failed");
+            }
+            return List.of();
+          })
+          .executor(executor, 4)
+          .minChunkSize(1)
+          .build();
+
+      assertThatThrownBy(() -> validation.validate(users(100)))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("lookup failed");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private record User(String email) {
+  }
+}
@@ -0,0 +1,114 @@
+package com.example.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.exception.domain.AccountSuspendedProblemDetail;
+import com.example.exception.validation.InvalidFormatValidationError;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DetailTemplateTest {
+
+  private static final DetailTemplate INVALID_FORMAT =
+      DetailTemplate.of("{} must match {}");
+
+  @Nested
+  class Format {
+
+    @Test
+    void shouldRenderArgumentsInPlaceholders() {
+      assertThat(INVALID_FORMAT.render("email", "^.+@.+$")).isEqualTo("email must match ^.+@.+$");
+      assertThat(DetailTemplate.of("{}{}").render(1, 2)).isEqualTo("12");
+    }
+
+    @Test
+    void shouldReturnPatternOfStaticTemplate() {
+      String pattern = "Name is required";
+
+      assertThat(DetailTemplate.of(pattern).format()).isSameAs(pattern);
+    }
+
+    @Test
+    void shouldRenderOnceOnFirstRead() {
+      CharSequence detail = INVALID_FORMAT.format("email", 42);
+
+      assertThat(detail.toString()).isEqualTo("email must match 42").isSameAs(detail.toString());
+    }
+
+    @Test
+    void shouldSnapshotMutableArgumentsWhenFormatted() {
+      StringBuilder field = new StringBuilder("email");
+
+      CharSequence detail = INVALID_FORMAT.format(field, "x");
+      field.setLength(0);
+      field.append("phone");
+
+      assertThat(detail.toString()).isEqualTo("email must match x");
+    }
+
+    @Test
+    void shouldCallToStringOfOtherArgumentsOnceWhenFormatted() {
+      AtomicInteger renders = new AtomicInteger();
+      Object argument = new Object() {
+        @Override
+        public String toString() {
+          renders.incrementAndGet();
+          return "email";
+        }
+      };
+
+      CharSequence detail = INVALID_FORMAT.format(argument, null);
+      assertThat(renders).hasValue(1);
+
+      assertThat(detail.toString()).isEqualTo("email must match null");
+      assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    void shouldRejectWrongArgumentCount() {
+      assertThatThrownBy(() -> INVALID_FORMAT.format("email"))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Template '{} must match {}' expects 2 arguments but got 1");
+    }
+  }
+
+  @Nested
+  class Builders {
+
+    @Test
+    void shouldRenderValidationErrorDetailWhenRead() {
+      InvalidFormatValidationError error = InvalidFormatValidationError.builder()
+          .detail(INVALID_FORMAT, "email", "^.+@.+$")
+          .ref("email")
+          .build();
+
+      assertThat(error.getDetail()).isEqualTo("email must match ^.+@.+$");
+    }
+
+    @Test
+    void shouldRenderDomainProblemDetailWhenReadOrCompared() {
+      AccountSuspendedProblemDetail templated = AccountSuspendedProblemDetail.builder()
+          .detail(DetailTemplate.of("Account {} is suspended"), 42)
+          .build();
+      AccountSuspendedProblemDetail plain = AccountSuspendedProblemDetail.builder()
+          .detail("Account 42 is suspended")
+          .build();
+
+      assertThat(templated).isEqualTo(plain).hasSameHashCodeAs(plain);
+      assertThat(templated.getDetail()).isEqualTo("Account 42 is suspended");
+    }
+
+    @Test
+    void shouldLetSetDetailReplaceTemplate() {
+      AccountSuspendedProblemDetail problemDetail = AccountSuspendedProblemDetail.builder()
+          .detail(DetailTemplate.of("Account {} is suspended"), 42)
+          .build();
+
+      problemDetail.setDetail("Suspended");
+
+      assertThat(problemDetail.getDetail()).isEqualTo("Suspended");
+    }
+  }
+}
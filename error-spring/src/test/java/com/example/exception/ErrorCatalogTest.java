@@ -0,0 +1,111 @@
+package com.example.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.exception.domain.AccountErrorCode;
+import com.example.exception.domain.AccountSuspendedAttributes;
+import com.example.exception.domain.AccountSuspendedProblemDetail;
+import com.example.exception.domain.DomainProblemDetail;
+import com.example.exception.domain.TransferLimitExceededAttributes;
+import com.example.exception.domain.TransferLimitExceededProblemDetail;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Reads the catalog the {@code error-catalog} plugin generates from the example service model,
+ * which the build copies into the test resources.
+ */
+class ErrorCatalogTest {
+
+  private static ErrorCatalog catalog() {
+    return ErrorCatalog.getDefault();
+  }
+
+  @Nested
+  class Lookup {
+
+    @Test
+    void shouldResolveCodeMetadata() {
+      ErrorCatalog catalog = catalog();
+
+      assertThat(catalog.size()).isEqualTo(2);
+      assertThat(catalog.find(AccountErrorCode.ACCOUNT_SUSPENDED)).hasValueSatisfying(entry -> {
+        assertThat(entry.code()).isEqualTo("account.account_suspended");
+        assertThat(entry.status()).isEqualTo(422);
+        assertThat(entry.type()).isEqualTo(URI.create("/errors/types/domain"));
+        assertThat(entry.title()).isEqualTo("Account Suspended");
+      });
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownCode() {
+      assertThat(catalog().find("account.unknown")).isEmpty();
+      assertThat(catalog().find("")).isEmpty();
+    }
+
+    @Test
+    void shouldMemoryMapCatalogFile(@TempDir Path dir) throws IOException {
+      Path file = dir.resolve("error-catalog.bin");
+      try (InputStream in = ErrorCatalog.class.getClassLoader()
+          .getResourceAsStream(ErrorCatalog.DEFAULT_RESOURCE)) {
+        Files.copy(in, file);
+      }
+
+      assertThat(ErrorCatalog.load(file).find("transfer.transfer_limit_exceeded"))
+          .map(ErrorCatalog.Entry::title)
+          .hasValue("Transfer Limit Exceeded");
+    }
+
+    @Test
+    void shouldLoadFromClassPath() throws IOException {
+      assertThat(ErrorCatalog.load(ErrorCatalogTest.class.getClassLoader()).size())
+          .isEqualTo(catalog().size());
+      assertThatThrownBy(() -> ErrorCatalog.load(new ClassLoader(null) {
+      })).isInstanceOf(FileNotFoundException.class);
+    }
+
+    @Test
+    void shouldRejectOtherFiles() {
+      assertThatThrownBy(() -> ErrorCatalog.load(new ByteArrayInputStream("{}".getBytes())))
+          .isInstanceOf(IOException.class)
+          .hasMessage("Not an error catalog");
+    }
+  }
+
+  @Nested
+  class ModelAlignment {
+
+    static Stream<DomainProblemDetail> domainProblemDetails() {
+      return Stream.of(
+          AccountSuspendedProblemDetail.builder()
+              .attributes(new AccountSuspendedAttributes("fraud"))
+              .build(),
+          TransferLimitExceededProblemDetail.builder()
+              .attributes(new TransferLimitExceededAttributes(BigDecimal.TEN, "EUR"))
+              .build());
+    }
+
+    @ParameterizedTest
+    @MethodSource("domainProblemDetails")
+    void shouldMatchModelConstants(DomainProblemDetail problemDetail) {
+      assertThat(catalog().find(problemDetail.getCode())).hasValueSatisfying(entry -> {
+        assertThat(problemDetail.getStatus()).isEqualTo(entry.status());
+        assertThat(problemDetail.getType()).isEqualTo(entry.type());
+        assertThat(problemDetail.getTitle()).isEqualTo(entry.title());
+      });
+    }
+  }
+}
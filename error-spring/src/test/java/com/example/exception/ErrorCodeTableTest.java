@@ -0,0 +1,71 @@
+package com.example.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.exception.domain.AccountErrorCode;
+import com.example.exception.domain.DomainErrorCode;
+import com.example.exception.domain.TransferErrorCode;
+import com.example.exception.validation.ValidationErrorCode;
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ErrorCodeTableTest {
+
+  @Nested
+  class Resolve {
+
+    @Test
+    void shouldResolveEveryDomainErrorCode() {
+      assertThat(DomainErrorCode.resolve("account.account_suspended"))
+          .hasValue(AccountErrorCode.ACCOUNT_SUSPENDED);
+      assertThat(DomainErrorCode.resolve("transfer.transfer_limit_exceeded"))
+          .hasValue(TransferErrorCode.TRANSFER_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    void shouldResolveEveryValidationErrorCode() {
+      for (ValidationErrorCode code : ValidationErrorCode.values()) {
+        assertThat(ValidationErrorCode.resolve(new StringBuilder(code.getCode()))).hasValue(code);
+      }
+    }
+
+    @Test
+    void shouldNotResolveUnknownOrPartialCodes() {
+      assertThat(DomainErrorCode.resolve("account.unknown")).isEmpty();
+      assertThat(DomainErrorCode.resolve("account")).isEmpty();
+      assertThat(DomainErrorCode.resolve("")).isEmpty();
+      assertThat(ValidationErrorCode.resolve("MISSING_VALUE")).isEmpty();
+    }
+  }
+
+  @Nested
+  class Regions {
+
+    private final ErrorCodeTable<ValidationErrorCode> table =
+        ErrorCodeTable.of(List.of(ValidationErrorCode.values()));
+
+    @Test
+    void shouldResolveRegionOfCharSequence() {
+      assertThat(table.get("errors[0].missing_value!", 10, 23))
+          .isEqualTo(ValidationErrorCode.MISSING_VALUE);
+    }
+
+    @Test
+    void shouldResolveRegionOfCharArray() {
+      char[] buffer = "{\"code\":\"invalid_format\"}".toCharArray();
+
+      assertThat(table.get(buffer, 9, 14)).isEqualTo(ValidationErrorCode.INVALID_FORMAT);
+      assertThat(table.get(buffer, 9, 13)).isNull();
+    }
+
+    @Test
+    void shouldRejectDuplicateCodes() {
+      assertThatThrownBy(() -> ErrorCodeTable.of(
+          List.of(ValidationErrorCode.MISSING_VALUE, ValidationErrorCode.MISSING_VALUE)))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Duplicate error code: missing_value");
+    }
+  }
+}
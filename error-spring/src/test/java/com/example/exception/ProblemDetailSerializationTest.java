@@ -1,10 +1,12 @@
 package com.example.exception;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.example.exception.access.AccessProblemDetail;
 import com.example.exception.domain.AccountSuspendedAttributes;
 import com.example.exception.domain.AccountSuspendedProblemDetail;
+import com.example.exception.domain.DomainProblemDetail;
 import com.example.exception.domain.TransferLimitExceededAttributes;
 import com.example.exception.domain.TransferLimitExceededProblemDetail;
 import com.example.exception.server.ServerProblemDetail;
@@ -14,6 +16,8 @@ import com.example.exception.validation.MissingValueAttributes;
 import com.example.exception.validation.MissingValueValidationError;
 import com.example.exception.validation.ValidationProblemDetail;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidTypeIdException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import java.math.BigDecimal;
 import java.net.URI;
 import org.junit.jupiter.api.BeforeEach;
@@ -155,6 +159,56 @@ class ProblemDetailSerializationTest {
       assertThat(deserialized.getCode()).isEqualTo("account.account_suspended");
       assertThat(deserialized.getAttributes().reason()).isEqualTo("Violation of terms of service");
     }
+
+    @Test
+    void shouldDispatchOnCodeWhenCodeArrivesLast() throws Exception {
+      String json = """
+          {"attributes":{"amount":15000.00,"currency":"USD"},"detail":"Limit exceeded",\
+          "status":422,"trace":"abc","code":"transfer.transfer_limit_exceeded"}""";
+
+      DomainProblemDetail deserialized = objectMapper.readValue(json, DomainProblemDetail.class);
+
+      assertThat(deserialized).isInstanceOf(TransferLimitExceededProblemDetail.class);
+      TransferLimitExceededProblemDetail transfer = (TransferLimitExceededProblemDetail) deserialized;
+      assertThat(transfer.getDetail()).isEqualTo("Limit exceeded");
+      assertThat(transfer.getAttributes().amount()).isEqualByComparingTo("15000.00");
+      assertThat(transfer.getAttributes().currency()).isEqualTo("USD");
+      assertThat(transfer.getProperties()).containsEntry("trace", "abc");
+    }
+
+    @Test
+    void shouldAcceptNullAttributesBeforeAndAfterCode() throws Exception {
+      String after = """
+          {"code":"account.account_suspended","status":403,"attributes":null}""";
+      String before = """
+          {"attributes":null,"status":403,"code":"account.account_suspended"}""";
+
+      for (String json : new String[] {after, before}) {
+        DomainProblemDetail deserialized = objectMapper.readValue(json, DomainProblemDetail.class);
+
+        assertThat(deserialized).isInstanceOf(AccountSuspendedProblemDetail.class);
+        assertThat(deserialized.getAttributes()).isNull();
+      }
+    }
+
+    @Test
+    void shouldRejectUnknownCode() {
+      String json = """
+          {"code":"account.unknown","attributes":{}}""";
+
+      assertThatThrownBy(() -> objectMapper.readValue(json, DomainProblemDetail.class))
+          .isInstanceOf(InvalidTypeIdException.class);
+    }
+
+    @Test
+    void shouldRejectCodeOfAnotherSubtype() {
+      String json = """
+          {"code":"account.account_suspended","attributes":{"reason":"fraud"}}""";
+
+      assertThatThrownBy(() -> objectMapper.readValue(json,
+          TransferLimitExceededProblemDetail.class))
+          .isInstanceOf(MismatchedInputException.class);
+    }
   }
 
   @Nested
@@ -231,6 +285,44 @@ class ProblemDetailSerializationTest {
       assertThat(error.getRef()).isEqualTo("name");
       assertThat(error.getAttributes().missingField()).isEqualTo("name");
     }
+
+    @Test
+    void shouldDispatchEachErrorOnCodeRegardlessOfMemberOrder() throws Exception {
+      String json = """
+          {"errors":[\
+          {"ref":"email","attributes":{"pattern":"^.+@.+$"},"code":"invalid_format"},\
+          {"code":"missing_value","detail":"Name is required","ref":"name",\
+          "attributes":{"missingField":"name"}}]}""";
+
+      ValidationProblemDetail deserialized = objectMapper.readValue(json,
+          ValidationProblemDetail.class);
+
+      assertThat(deserialized.getErrors()).hasSize(2);
+      assertThat(deserialized.getErrors().get(0)).isInstanceOf(InvalidFormatValidationError.class);
+      InvalidFormatValidationError invalidFormat =
+          (InvalidFormatValidationError) deserialized.getErrors().get(0);
+      assertThat(invalidFormat.getRef()).isEqualTo("email");
+      assertThat(invalidFormat.getAttributes().pattern()).isEqualTo("^.+@.+$");
+      assertThat(deserialized.getErrors().get(1)).isInstanceOf(MissingValueValidationError.class);
+      assertThat(deserialized.getErrors().get(1).getDetail()).isEqualTo("Name is required");
+    }
+
+    @Test
+    void shouldAcceptNullAttributesBeforeAndAfterCode() throws Exception {
+      String after = """
+          {"errors":[{"code":"missing_value","attributes":null}]}""";
+      String before = """
+          {"errors":[{"attributes":null,"code":"missing_value"}]}""";
+
+      for (String json : new String[] {after, before}) {
+        ValidationProblemDetail deserialized = objectMapper.readValue(json,
+            ValidationProblemDetail.class);
+
+        assertThat(deserialized.getErrors()).singleElement()
+            .isInstanceOf(MissingValueValidationError.class)
+            .satisfies(error -> assertThat(error.getAttributes()).isNull());
+      }
+    }
   }
 
   @Nested
@@ -0,0 +1,111 @@
+package com.example.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.exception.json.ProblemDetailModule;
+import com.example.exception.validation.MissingValueValidationError;
+import com.example.exception.validation.RefPath;
+import com.example.exception.validation.ValidationError;
+import com.example.exception.validation.ValidationProblemDetail;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+
+class RefPathTest {
+
+  @Nested
+  class Rendering {
+
+    @Test
+    void shouldRenderPropertiesAndIndexes() {
+      RefPath path = RefPath.of("users").index(42).property("addresses").index(0)
+          .property("zip");
+
+      assertThat(path).hasToString("users[42].addresses[0].zip");
+      assertThat(path.length()).isEqualTo("users[42].addresses[0].zip".length());
+      assertThat(RefPath.ofIndex(7).property("email")).hasToString("[7].email");
+    }
+
+    @Test
+    void shouldShareRenderedPrefixBetweenSiblings() {
+      RefPath user = RefPath.of("users").index(10);
+      assertThat(user).hasToString("users[10]");
+
+      assertThat(user.property("email")).hasToString("users[10].email");
+      assertThat(user.property("name")).hasToString("users[10].name");
+    }
+
+    @Test
+    void shouldCompareByRenderedPath() {
+      assertThat(RefPath.of("users").index(1).property("email"))
+          .isEqualTo(RefPath.of("users").resolve("[1].email"))
+          .hasSameHashCodeAs(RefPath.of("users").resolve("[1].email"));
+    }
+
+    @Test
+    void shouldHashLikeRenderedString() {
+      RefPath users = RefPath.of("users");
+
+      for (RefPath path : List.of(users, RefPath.ofIndex(0), users.index(1234567890),
+          users.index(7).property("email"), users.resolve("[10].address").property("city"),
+          RefPath.ofIndex(3).index(0).property("name"))) {
+        assertThat(path.hashCode()).as(path.toString()).isEqualTo(path.toString().hashCode());
+      }
+    }
+
+    @Test
+    void shouldCompareDifferentlyBuiltPathsByRenderedPath() {
+      assertThat(RefPath.of("a").property("b")).isEqualTo(RefPath.of("a.b"))
+          .isNotEqualTo(RefPath.of("a").property("c"));
+    }
+
+    @Test
+    void shouldRejectNegativeIndex() {
+      assertThatThrownBy(() -> RefPath.of("users").index(-1))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  class Resolving {
+
+    @Test
+    void shouldResolveRelativeStrings() {
+      RefPath user = RefPath.of("users").index(3);
+
+      assertThat(user.resolve("email")).hasToString("users[3].email");
+      assertThat(user.resolve("[0].email")).hasToString("users[3][0].email");
+      assertThat(user.resolve("")).isSameAs(user);
+      assertThat(user.resolve(null)).isSameAs(user);
+    }
+
+    @Test
+    void shouldRerootRelativePaths() {
+      RefPath relative = RefPath.of("address").resolve("[1]").property("zip");
+
+      assertThat(RefPath.of("users").index(3).resolve(relative))
+          .hasToString("users[3].address[1].zip");
+    }
+  }
+
+  @Test
+  void shouldRenderErrorRefOnSerialization() throws Exception {
+    ValidationError error = MissingValueValidationError.builder()
+        .ref(RefPath.of("users").index(3).property("email"))
+        .build();
+    ObjectMapper objectMapper = new ObjectMapper();
+    objectMapper.addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class);
+    objectMapper.registerModule(new ProblemDetailModule());
+
+    JsonNode json = objectMapper.valueToTree(
+        ValidationProblemDetail.builder().error(error).build());
+
+    assertThat(json.at("/errors/0/ref").asText()).isEqualTo("users[3].email");
+    assertThat(error.getRef()).isEqualTo("users[3].email");
+  }
+}
@@ -0,0 +1,113 @@
+package com.example.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.exception.access.AccessProblemDetail;
+import com.example.exception.access.PublicAccessErrorResponseException;
+import com.example.exception.server.ServerProblemDetail;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+
+class SharedProblemDetailTest {
+
+  private static AccessProblemDetail sharedUnauthorized() {
+    return AccessProblemDetail.builder()
+        .status(HttpStatus.UNAUTHORIZED)
+        .title("Unauthorized")
+        .buildShared();
+  }
+
+  @Nested
+  class Access {
+
+    @Test
+    void shouldShareInstancePerStatusAndTitle() {
+      AccessProblemDetail shared = sharedUnauthorized();
+
+      assertThat(sharedUnauthorized()).isSameAs(shared);
+      assertThat(shared.isFrozen()).isTrue();
+      assertThat(AccessProblemDetail.builder()
+          .status(HttpStatus.FORBIDDEN)
+          .title("Unauthorized")
+          .buildShared()).isNotSameAs(shared);
+    }
+
+    @Test
+    void shouldRejectModification() {
+      AccessProblemDetail shared = sharedUnauthorized();
+
+      assertThatThrownBy(() -> shared.setInstance(URI.create("/login")))
+          .isInstanceOf(UnsupportedOperationException.class);
+      assertThatThrownBy(() -> shared.setDetail("changed"))
+          .isInstanceOf(UnsupportedOperationException.class);
+      assertThatThrownBy(() -> shared.setStatus(HttpStatus.FORBIDDEN))
+          .isInstanceOf(UnsupportedOperationException.class);
+      assertThatThrownBy(() -> shared.setProperty("key", "value"))
+          .isInstanceOf(UnsupportedOperationException.class);
+      assertThat(shared.getInstance()).isNull();
+      assertThat(shared.getDetail()).isNull();
+    }
+
+    @Test
+    void shouldHandSpringMutableCopyOfFrozenBody() {
+      AccessProblemDetail shared = sharedUnauthorized();
+      PublicAccessErrorResponseException exception = PublicAccessErrorResponseException.builder()
+          .problemDetail(shared)
+          .build();
+
+      assertThat(exception.getSharedBody()).isSameAs(shared);
+      assertThat(exception.getProblemDetail()).isNotSameAs(shared).isEqualTo(shared);
+
+      exception.setInstance(URI.create("/login"));
+      exception.setDetail("Token expired");
+
+      assertThat(exception.getProblemDetail().getInstance()).isEqualTo(URI.create("/login"));
+      assertThat(exception.getProblemDetail().getDetail()).isEqualTo("Token expired");
+      assertThat(exception.getSharedBody()).isNull();
+      assertThat(shared.getInstance()).isNull();
+      assertThat(shared.getDetail()).isNull();
+    }
+
+    @Test
+    void shouldEqualAndSerializeLikeUnsharedInstance() throws Exception {
+      ObjectMapper objectMapper = new ObjectMapper();
+      objectMapper.addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class);
+      AccessProblemDetail built = AccessProblemDetail.builder()
+          .status(HttpStatus.UNAUTHORIZED)
+          .title("Unauthorized")
+          .build();
+
+      assertThat(sharedUnauthorized()).isEqualTo(built);
+      assertThat(built.isFrozen()).isFalse();
+      assertThat(objectMapper.writeValueAsString(sharedUnauthorized()))
+          .isEqualTo(objectMapper.writeValueAsString(built))
+          .doesNotContain("frozen");
+    }
+  }
+
+  @Nested
+  class Server {
+
+    @Test
+    void shouldShareFrozenInstanceIncludingDetail() {
+      ServerProblemDetail shared = ServerProblemDetail.builder()
+          .title("Internal Server Error")
+          .detail("Something went wrong")
+          .buildShared();
+
+      assertThat(ServerProblemDetail.builder()
+          .title("Internal Server Error")
+          .detail("Something went wrong")
+          .buildShared()).isSameAs(shared);
+      assertThat(shared.getStatus()).isEqualTo(500);
+      assertThatThrownBy(() -> shared.setTitle("changed"))
+          .isInstanceOf(UnsupportedOperationException.class);
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package com.example.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.exception.domain.AccountSuspendedAttributes;
+import com.example.exception.domain.AccountSuspendedException;
+import com.example.exception.domain.AccountSuspendedProblemDetail;
+import com.example.exception.domain.InternalDomainErrorResponseException;
+import com.example.exception.server.InternalServerErrorResponseException;
+import com.example.exception.server.PublicServerErrorResponseException;
+import com.example.exception.server.ServerErrorResponseException;
+import com.example.exception.server.ServerProblemDetail;
+import com.example.exception.validation.InternalValidationErrorResponseException;
+import com.example.exception.validation.PublicValidationErrorResponseException;
+import com.example.exception.validation.ValidationProblemDetail;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StackTracePolicyTest {
+
+  @AfterEach
+  void tearDown() {
+    ApiErrorResponseException.setStackTracePolicy(StackTracePolicy.fullTraces());
+  }
+
+  @Test
+  void shouldCaptureStackTraceByDefault() {
+    AccountSuspendedException exception = accountSuspended();
+
+    assertThat(exception.getStackTrace()).isNotEmpty();
+  }
+
+  @Test
+  void shouldSkipStackTraceForPublicFamilies() {
+    ApiErrorResponseException.setStackTracePolicy(StackTracePolicy.stacklessPublic());
+
+    assertThat(accountSuspended().getStackTrace()).isEmpty();
+    assertThat(PublicValidationErrorResponseException.builder()
+        .problemDetail(ValidationProblemDetail.builder().build())
+        .build()
+        .getStackTrace()).isEmpty();
+  }
+
+  @Test
+  void shouldKeepStackTraceForInternalAndServerFamilies() {
+    ApiErrorResponseException.setStackTracePolicy(StackTracePolicy.stacklessPublic());
+
+    assertThat(InternalValidationErrorResponseException.builder()
+        .problemDetail(ValidationProblemDetail.builder().build())
+        .build()
+        .getStackTrace()).isNotEmpty();
+    assertThat(PublicServerErrorResponseException.builder()
+        .problemDetail(ServerProblemDetail.builder().title("Internal Server Error").build())
+        .build()
+        .getStackTrace()).isNotEmpty();
+  }
+
+  @Test
+  void shouldResolveModeFromClosestRegisteredFamily() {
+    StackTracePolicy policy = StackTracePolicy.builder()
+        .defaultMode(StackTraceMode.STACKLESS)
+        .mode(ServerErrorResponseException.class, StackTraceMode.FULL)
+        .mode(InternalServerErrorResponseException.class, StackTraceMode.STACKLESS)
+        .build();
+
+    assertThat(policy.modeFor(AccountSuspendedException.class))
+        .isEqualTo(StackTraceMode.STACKLESS);
+    assertThat(policy.modeFor(PublicServerErrorResponseException.class))
+        .isEqualTo(StackTraceMode.FULL);
+    assertThat(policy.modeFor(InternalServerErrorResponseException.class))
+        .isEqualTo(StackTraceMode.STACKLESS);
+  }
+
+  @Test
+  void shouldPreserveCauseWhenStackless() {
+    ApiErrorResponseException.setStackTracePolicy(StackTracePolicy.stacklessPublic());
+    RuntimeException cause = new RuntimeException("Original error");
+
+    AccountSuspendedException exception = AccountSuspendedException.builder()
+        .problemDetail(AccountSuspendedProblemDetail.builder().build())
+        .cause(cause)
+        .build();
+
+    assertThat(exception.getStackTrace()).isEmpty();
+    assertThat(exception.getCause()).isEqualTo(cause);
+  }
+
+  @Test
+  void shouldKeepEveryTraceBelowAdaptiveThreshold() {
+    ApiErrorResponseException.setStackTracePolicy(StackTracePolicy.builder()
+        .mode(ServerErrorResponseException.class, StackTraceMode.ADAPTIVE)
+        .adaptiveThreshold(5)
+        .build());
+
+    List<InternalServerErrorResponseException> exceptions = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      exceptions.add(internalServerError());
+    }
+
+    assertThat(exceptions).allSatisfy(exception -> {
+      assertThat(exception.getStackTrace()).isNotEmpty();
+      assertThat(exception.getTraceFingerprint()).isPositive();
+    });
+    assertThat(exceptions).extracting(ApiErrorResponseException::getTraceFingerprint)
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  void shouldSampleTracesAboveAdaptiveThreshold() {
+    ApiErrorResponseException.setStackTracePolicy(StackTracePolicy.builder()
+        .mode(ServerErrorResponseException.class, StackTraceMode.ADAPTIVE)
+        .adaptiveThreshold(0)
+        .adaptiveSampleRate(4)
+        .build());
+
+    List<InternalServerErrorResponseException> exceptions = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      exceptions.add(internalServerError());
+    }
+
+    for (int i = 0; i < exceptions.size(); i++) {
+      InternalServerErrorResponseException exception = exceptions.get(i);
+      InternalServerErrorResponseException sampled = exceptions.get(i - i % 4);
+      assertThat(exception.getStackTrace().length > 0).isEqualTo(i % 4 == 0);
+      assertThat(exception.getTraceFingerprint()).isEqualTo(sampled.getTraceFingerprint());
+    }
+  }
+
+  @Test
+  void shouldSampleServerAndInternalDomainFamiliesInAdaptivePolicy() {
+    StackTracePolicy policy = StackTracePolicy.adaptive();
+
+    assertThat(policy.modeFor(PublicServerErrorResponseException.class))
+        .isEqualTo(StackTraceMode.ADAPTIVE);
+    assertThat(policy.modeFor(InternalDomainErrorResponseException.class))
+        .isEqualTo(StackTraceMode.ADAPTIVE);
+    assertThat(policy.modeFor(AccountSuspendedException.class))
+        .isEqualTo(StackTraceMode.STACKLESS);
+    assertThat(policy.modeFor(InternalValidationErrorResponseException.class))
+        .isEqualTo(StackTraceMode.FULL);
+  }
+
+  @Test
+  void shouldNotFingerprintOutsideAdaptiveMode() {
+    assertThat(internalServerError().getTraceFingerprint()).isZero();
+  }
+
+  private static InternalServerErrorResponseException internalServerError() {
+    return InternalServerErrorResponseException.builder()
+        .problemDetail(ServerProblemDetail.builder().title("Internal Server Error").build())
+        .build();
+  }
+
+  private static AccountSuspendedException accountSuspended() {
+    return AccountSuspendedException.builder()
+        .problemDetail(AccountSuspendedProblemDetail.builder()
+            .detail("Your account has been suspended")
+            .attributes(AccountSuspendedAttributes.builder()
+                .reason("Violation of terms of service")
+                .build())
+            .build())
+        .build();
+  }
+}
@@ -0,0 +1,201 @@
+package com.example.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.exception.json.ProblemDetailModule;
+import com.example.exception.validation.InvalidFormatValidationError;
+import com.example.exception.validation.MissingValueValidationError;
+import com.example.exception.validation.RefPath;
+import com.example.exception.validation.ValidationError;
+import com.example.exception.validation.ValidationProblemDetail;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+
+class ValidationProblemDetailBuilderTest {
+
+  private static ValidationError missing(String ref) {
+    return MissingValueValidationError.builder().ref(ref).build();
+  }
+
+  @Nested
+  class Capping {
+
+    @Test
+    void shouldKeepFirstErrorsAndCountOmitted() {
+      ValidationProblemDetail.Builder builder = ValidationProblemDetail.builder().maxErrors(2);
+      for (int i = 0; i < 5; i++) {
+        builder.error(missing("users[" + i + "]"));
+      }
+
+      ValidationProblemDetail problemDetail = builder.build();
+
+      assertThat(problemDetail.getErrors()).extracting(ValidationError::getRef)
+          .containsExactly("users[0]", "users[1]");
+      assertThat(problemDetail.getOmittedErrors()).isEqualTo(3);
+      assertThat(problemDetail.isTruncated()).isTrue();
+    }
+
+    @Test
+    void shouldApplyCapSetAfterErrors() {
+      ValidationProblemDetail problemDetail = ValidationProblemDetail.builder()
+          .error(missing("a"))
+          .error(missing("b"))
+          .error(missing("c"))
+          .maxErrors(1)
+          .build();
+
+      assertThat(problemDetail.getErrors()).hasSize(1);
+      assertThat(problemDetail.getOmittedErrors()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotShareErrorsWithBuilderModifiedAfterBuild() {
+      ValidationProblemDetail.Builder builder = ValidationProblemDetail.builder()
+          .expectedErrors(4)
+          .error(missing("a"));
+      ValidationProblemDetail first = builder.build();
+
+      ValidationProblemDetail second = builder.error(missing("b")).build();
+
+      assertThat(first.getErrors()).hasSize(1);
+      assertThat(second.getErrors()).hasSize(2);
+    }
+
+    @Test
+    void shouldNotChangeBuiltErrorsWhenBuilderIsReused() throws Exception {
+      ValidationProblemDetail.Builder builder = ValidationProblemDetail.builder()
+          .expectedErrors(4)
+          .error(missing("a"))
+          .error(missing("a"));
+      ValidationProblemDetail first = builder.build();
+
+      builder.deduplicate().error(missing("b")).build();
+
+      List<String> refs = new ArrayList<>();
+      first.writeErrors(error -> refs.add(error.getRef()));
+      assertThat(refs).containsExactly("a", "a");
+    }
+
+    @Test
+    void shouldReturnMutableErrors() {
+      ValidationProblemDetail problemDetail = ValidationProblemDetail.builder()
+          .error(missing("a"))
+          .build();
+
+      problemDetail.getErrors().add(missing("b"));
+
+      assertThat(problemDetail.getErrors()).extracting(ValidationError::getRef)
+          .containsExactly("a", "b");
+    }
+  }
+
+  @Nested
+  class Deduplication {
+
+    @Test
+    void shouldDropErrorsWithSameCodeAndRef() {
+      ValidationProblemDetail problemDetail = ValidationProblemDetail.builder()
+          .deduplicate()
+          .error(missing("email"))
+          .error(missing("email"))
+          .error(InvalidFormatValidationError.builder().ref("email").build())
+          .error(missing("name"))
+          .build();
+
+      assertThat(problemDetail.getErrors())
+          .extracting(ValidationError::getCode, ValidationError::getRef)
+          .containsExactly(
+              tuple("missing_value", "email"),
+              tuple("invalid_format", "email"),
+              tuple("missing_value", "name"));
+      assertThat(problemDetail.getOmittedErrors()).isZero();
+    }
+
+    @Test
+    void shouldDeduplicateErrorsAddedBefore() {
+      ValidationProblemDetail problemDetail = ValidationProblemDetail.builder()
+          .error(missing("email"))
+          .error(missing("email"))
+          .deduplicate()
+          .error(missing("email"))
+          .build();
+
+      assertThat(problemDetail.getErrors()).hasSize(1);
+    }
+
+    @Test
+    void shouldNotCountDuplicatesAgainstCap() {
+      ValidationProblemDetail.Builder builder = ValidationProblemDetail.builder()
+          .deduplicate()
+          .maxErrors(2);
+      for (int i = 0; i < 1000; i++) {
+        builder.error(missing("email"));
+      }
+
+      ValidationProblemDetail problemDetail = builder.error(missing("name")).build();
+
+      assertThat(problemDetail.getErrors()).hasSize(2);
+      assertThat(problemDetail.getOmittedErrors()).isZero();
+    }
+
+    @Test
+    void shouldOnlyCountErrorsOnceCapIsReached() {
+      ValidationProblemDetail.Builder builder = ValidationProblemDetail.builder()
+          .deduplicate()
+          .maxErrors(1)
+          .error(missing("email"));
+      for (int i = 0; i < 1000; i++) {
+        builder.error(missing("email"));
+      }
+
+      ValidationProblemDetail problemDetail = builder.build();
+
+      assertThat(problemDetail.getErrors()).hasSize(1);
+      assertThat(problemDetail.getOmittedErrors()).isEqualTo(1000);
+    }
+
+    @Test
+    void shouldMatchRefPathAndStringRefsByContent() {
+      ValidationProblemDetail problemDetail = ValidationProblemDetail.builder()
+          .deduplicate()
+          .error(missing("users[0].email"))
+          .error(MissingValueValidationError.builder()
+              .ref(RefPath.of("users").index(0).property("email"))
+              .build())
+          .error(MissingValueValidationError.builder()
+              .ref(RefPath.of("users").index(1).property("email"))
+              .build())
+          .build();
+
+      assertThat(problemDetail.getErrors()).extracting(ValidationError::getRef)
+          .containsExactly("users[0].email", "users[1].email");
+    }
+  }
+
+  @Test
+  void shouldReportOmittedErrorsInResponse() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+    objectMapper.addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class);
+    objectMapper.registerModule(new ProblemDetailModule());
+    ValidationProblemDetail original = ValidationProblemDetail.builder()
+        .maxErrors(1)
+        .error(missing("a"))
+        .error(missing("b"))
+        .build();
+
+    String json = objectMapper.writeValueAsString(original);
+    ValidationProblemDetail deserialized = objectMapper.readValue(json,
+        ValidationProblemDetail.class);
+
+    assertThat(json).endsWith("\"errors\":[{\"code\":\"missing_value\",\"ref\":\"a\"}],"
+        + "\"truncated\":true,\"omittedErrors\":1}");
+    assertThat(deserialized.getOmittedErrors()).isEqualTo(1);
+    assertThat(deserialized.isTruncated()).isTrue();
+  }
+}
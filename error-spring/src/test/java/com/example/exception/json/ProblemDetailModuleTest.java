@@ -0,0 +1,278 @@
+package com.example.exception.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.exception.domain.AccountSuspendedAttributes;
+import com.example.exception.domain.AccountSuspendedProblemDetail;
+import com.example.exception.domain.TransferLimitExceededAttributes;
+import com.example.exception.domain.TransferLimitExceededProblemDetail;
+import com.example.exception.validation.InvalidFormatAttributes;
+import com.example.exception.validation.InvalidFormatValidationError;
+import com.example.exception.validation.MissingValueAttributes;
+import com.example.exception.validation.MissingValueValidationError;
+import com.example.exception.validation.ValidationProblemDetail;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+
+class ProblemDetailModuleTest {
+
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    objectMapper.addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class);
+    objectMapper.registerModule(new ProblemDetailModule());
+  }
+
+  @Test
+  void shouldWriteDomainProblemDetail() throws Exception {
+    TransferLimitExceededProblemDetail original = TransferLimitExceededProblemDetail.builder()
+        .detail("Transfer amount exceeds your daily limit")
+        .attributes(TransferLimitExceededAttributes.builder()
+            .amount(new BigDecimal("15000.00"))
+            .currency("USD")
+            .build())
+        .build();
+
+    String json = objectMapper.writeValueAsString(original);
+
+    assertThat(json).isEqualTo("{\"type\":\"/errors/types/domain\","
+        + "\"title\":\"Transfer Limit Exceeded\",\"status\":422,"
+        + "\"detail\":\"Transfer amount exceeds your daily limit\","
+        + "\"code\":\"transfer.transfer_limit_exceeded\","
+        + "\"attributes\":{\"amount\":15000.00,\"currency\":\"USD\"}}");
+  }
+
+  @Test
+  void shouldRoundTripDomainProblemDetail() throws Exception {
+    AccountSuspendedProblemDetail original = AccountSuspendedProblemDetail.builder()
+        .detail("Your account has been suspended")
+        .attributes(AccountSuspendedAttributes.builder()
+            .reason("Violation of terms of service")
+            .build())
+        .build();
+    original.setInstance(URI.create("/users/42"));
+
+    String json = objectMapper.writeValueAsString(original);
+    AccountSuspendedProblemDetail deserialized = objectMapper.readValue(json,
+        AccountSuspendedProblemDetail.class);
+
+    assertThat(deserialized.getType()).isEqualTo(URI.create("/errors/types/domain"));
+    assertThat(deserialized.getTitle()).isEqualTo("Account Suspended");
+    assertThat(deserialized.getStatus()).isEqualTo(422);
+    assertThat(deserialized.getDetail()).isEqualTo("Your account has been suspended");
+    assertThat(deserialized.getInstance()).isEqualTo(URI.create("/users/42"));
+    assertThat(deserialized.getCode()).isEqualTo("account.account_suspended");
+    assertThat(deserialized.getAttributes().reason()).isEqualTo("Violation of terms of service");
+  }
+
+  @Test
+  void shouldWriteValidationProblemDetail() throws Exception {
+    ValidationProblemDetail original = ValidationProblemDetail.builder()
+        .error(InvalidFormatValidationError.builder()
+            .detail("Email must be a valid email address")
+            .ref("email")
+            .attributes(InvalidFormatAttributes.builder()
+                .pattern("^[a-z]+@[a-z]+$")
+                .build())
+            .build())
+        .error(MissingValueValidationError.builder()
+            .detail("Name is required")
+            .ref("name")
+            .attributes(MissingValueAttributes.builder()
+                .missingField("name")
+                .build())
+            .build())
+        .build();
+
+    String json = objectMapper.writeValueAsString(original);
+
+    assertThat(json).isEqualTo("{\"type\":\"/errors/types/validation\","
+        + "\"title\":\"Validation Problem\",\"status\":400,\"errors\":["
+        + "{\"code\":\"invalid_format\",\"detail\":\"Email must be a valid email address\","
+        + "\"ref\":\"email\",\"attributes\":{\"pattern\":\"^[a-z]+@[a-z]+$\"}},"
+        + "{\"code\":\"missing_value\",\"detail\":\"Name is required\",\"ref\":\"name\","
+        + "\"attributes\":{\"missingField\":\"name\"}}]}");
+  }
+
+  @Test
+  void shouldRoundTripValidationProblemDetail() throws Exception {
+    ValidationProblemDetail original = ValidationProblemDetail.builder()
+        .error(MissingValueValidationError.builder()
+            .detail("Name is required")
+            .ref("name")
+            .attributes(MissingValueAttributes.builder()
+                .missingField("name")
+                .build())
+            .build())
+        .build();
+
+    String json = objectMapper.writeValueAsString(original);
+    ValidationProblemDetail deserialized = objectMapper.readValue(json,
+        ValidationProblemDetail.class);
+
+    assertThat(deserialized.getErrors()).hasSize(1);
+    MissingValueValidationError error = (MissingValueValidationError) deserialized.getErrors()
+        .get(0);
+    assertThat(error.getCode()).isEqualTo("missing_value");
+    assertThat(error.getDetail()).isEqualTo("Name is required");
+    assertThat(error.getRef()).isEqualTo("name");
+    assertThat(error.getAttributes().missingField()).isEqualTo("name");
+  }
+
+  @Test
+  void shouldMatchMixinOutput() throws Exception {
+    ObjectMapper mixinOnly = new ObjectMapper();
+    mixinOnly.addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class);
+    TransferLimitExceededProblemDetail domain = TransferLimitExceededProblemDetail.builder()
+        .detail("Transfer amount exceeds your daily limit")
+        .attributes(TransferLimitExceededAttributes.builder()
+            .amount(new BigDecimal("15000.00"))
+            .currency("USD")
+            .build())
+        .build();
+    ValidationProblemDetail validation = ValidationProblemDetail.builder()
+        .error(InvalidFormatValidationError.builder()
+            .detail("Email must be a valid email address")
+            .ref("email")
+            .attributes(InvalidFormatAttributes.builder()
+                .pattern("^[a-z]+@[a-z]+$")
+                .build())
+            .build())
+        .build();
+
+    assertThat(objectMapper.writeValueAsString(domain))
+        .isEqualTo(mixinOnly.writeValueAsString(domain));
+    assertThat(objectMapper.writeValueAsString(validation))
+        .isEqualTo(mixinOnly.writeValueAsString(validation));
+  }
+
+  @Test
+  void shouldWriteChangedConstantsAndExtraProperties() throws Exception {
+    AccountSuspendedProblemDetail original = AccountSuspendedProblemDetail.builder().build();
+    original.setTitle("Suspended");
+    original.setProperty("traceId", "abc");
+
+    String json = objectMapper.writeValueAsString(original);
+
+    assertThat(json).isEqualTo("{\"type\":\"/errors/types/domain\",\"title\":\"Suspended\","
+        + "\"status\":422,\"code\":\"account.account_suspended\",\"traceId\":\"abc\"}");
+  }
+
+  @Test
+  void shouldStreamErrorsUpToMaxAndMarkTruncation() throws Exception {
+    AtomicInteger produced = new AtomicInteger();
+    ValidationProblemDetail original = ValidationProblemDetail.builder()
+        .streamErrors(() -> IntStream.range(0, 100_000)
+            .peek(i -> produced.incrementAndGet())
+            .mapToObj(i -> MissingValueValidationError.builder().ref("users[" + i + "]").build())
+            .iterator())
+        .maxErrors(2)
+        .build();
+
+    String json = objectMapper.writeValueAsString(original);
+
+    assertThat(json).isEqualTo("{\"type\":\"/errors/types/validation\","
+        + "\"title\":\"Validation Problem\",\"status\":400,\"errors\":["
+        + "{\"code\":\"missing_value\",\"ref\":\"users[0]\"},"
+        + "{\"code\":\"missing_value\",\"ref\":\"users[1]\"}],\"truncated\":true}");
+    assertThat(produced).hasValue(3);
+  }
+
+  @Test
+  void shouldConsumeStreamedErrorsOnceAcrossThreads() throws Exception {
+    AtomicInteger sourced = new AtomicInteger();
+    CountDownLatch sourcing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ValidationProblemDetail original = ValidationProblemDetail.builder()
+        .streamErrors(() -> {
+          sourced.incrementAndGet();
+          sourcing.countDown();
+          return IntStream.range(0, 50)
+              .peek(i -> {
+                try {
+                  release.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              })
+              .mapToObj(i -> MissingValueValidationError.builder().ref("users[" + i + "]").build())
+              .iterator();
+        })
+        .build();
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<String> written = executor.submit(() -> objectMapper.writeValueAsString(original));
+      sourcing.await();
+      Future<Integer> read = executor.submit(() -> original.getErrors().size());
+      release.countDown();
+
+      assertThat(read.get(5, TimeUnit.SECONDS)).isEqualTo(50);
+      assertThat(objectMapper.readTree(written.get(5, TimeUnit.SECONDS)).get("errors"))
+          .hasSize(50);
+      assertThat(sourced).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldKeepStreamedErrorsForLaterReaders() throws Exception {
+    AtomicInteger sourced = new AtomicInteger();
+    ValidationProblemDetail original = ValidationProblemDetail.builder()
+        .error(MissingValueValidationError.builder().ref("name").build())
+        .streamErrors(() -> {
+          sourced.incrementAndGet();
+          return IntStream.range(0, 5)
+              .mapToObj(i -> MissingValueValidationError.builder().ref("users[" + i + "]").build())
+              .iterator();
+        })
+        .maxErrors(3)
+        .build();
+
+    assertThat(original.toString()).contains("streamedErrors=pending");
+    assertThat(original).isNotEqualTo(ValidationProblemDetail.builder().build());
+    original.hashCode();
+    assertThat(sourced).hasValue(0);
+
+    String first = objectMapper.writeValueAsString(original);
+    String second = objectMapper.writeValueAsString(original);
+
+    assertThat(second).isEqualTo(first).contains("\"truncated\":true");
+    assertThat(sourced).hasValue(1);
+    assertThat(original.isStreamed()).isFalse();
+    assertThat(original.getErrors()).extracting(error -> error.getRef())
+        .containsExactly("name", "users[0]", "users[1]");
+    assertThat(original.isTruncated()).isTrue();
+  }
+
+  @Test
+  void shouldRoundTripTruncationMarker() throws Exception {
+    ValidationProblemDetail original = ValidationProblemDetail.builder()
+        .error(MissingValueValidationError.builder().ref("name").build())
+        .error(MissingValueValidationError.builder().ref("email").build())
+        .maxErrors(1)
+        .build();
+
+    String json = objectMapper.writeValueAsString(original);
+    ValidationProblemDetail deserialized = objectMapper.readValue(json,
+        ValidationProblemDetail.class);
+
+    assertThat(deserialized.getErrors()).hasSize(1);
+    assertThat(deserialized.isTruncated()).isTrue();
+    assertThat(objectMapper.writeValueAsString(deserialized)).isEqualTo(json);
+  }
+}
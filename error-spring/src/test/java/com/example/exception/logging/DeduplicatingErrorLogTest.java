@@ -0,0 +1,197 @@
+package com.example.exception.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.exception.ApiErrorResponseException;
+import com.example.exception.StackTraceMode;
+import com.example.exception.StackTracePolicy;
+import com.example.exception.domain.AccountSuspendedException;
+import com.example.exception.domain.AccountSuspendedProblemDetail;
+import com.example.exception.domain.TransferLimitExceededException;
+import com.example.exception.domain.TransferLimitExceededProblemDetail;
+import com.example.exception.server.InternalServerErrorResponseException;
+import com.example.exception.server.ServerErrorResponseException;
+import com.example.exception.server.ServerProblemDetail;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.logging.impl.SimpleLog;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DeduplicatingErrorLogTest {
+
+  private static TransferLimitExceededException transferLimitExceeded(Throwable cause) {
+    return TransferLimitExceededException.builder()
+        .problemDetail(TransferLimitExceededProblemDetail.builder().build())
+        .cause(cause)
+        .build();
+  }
+
+  private static AccountSuspendedException accountSuspended() {
+    return AccountSuspendedException.builder()
+        .problemDetail(AccountSuspendedProblemDetail.builder().build())
+        .build();
+  }
+
+  private static InternalServerErrorResponseException serverError(Throwable cause) {
+    return InternalServerErrorResponseException.builder()
+        .problemDetail(ServerProblemDetail.builder().title("Internal Server Error").build())
+        .cause(cause)
+        .build();
+  }
+
+  @Nested
+  class Fingerprint {
+
+    @Test
+    void shouldMatchForSameErrorFromSameSite() {
+      List<ApiErrorResponseException> exceptions = new ArrayList<>();
+      for (int i = 0; i < 2; i++) {
+        exceptions.add(transferLimitExceeded(new IllegalStateException("limit " + i)));
+      }
+
+      assertThat(ErrorFingerprint.of(exceptions.get(0), 5))
+          .isEqualTo(ErrorFingerprint.of(exceptions.get(1), 5));
+    }
+
+    @Test
+    void shouldDifferByCodeCauseTypeAndSite() {
+      long fingerprint = ErrorFingerprint.of(transferLimitExceeded(new IllegalStateException()), 5);
+
+      assertThat(ErrorFingerprint.of(accountSuspended(), 5)).isNotEqualTo(fingerprint);
+      assertThat(ErrorFingerprint.of(transferLimitExceeded(new IllegalArgumentException()), 5))
+          .isNotEqualTo(fingerprint);
+      assertThat(ErrorFingerprint.of(transferLimitExceeded(new IllegalStateException()), 5))
+          .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void shouldIgnoreFramesBeyondLimit() {
+      assertThat(ErrorFingerprint.of(transferLimitExceeded(new IllegalStateException()), 0))
+          .isEqualTo(ErrorFingerprint.of(transferLimitExceeded(new IllegalStateException()), 0));
+    }
+
+    @Test
+    void shouldMatchForSampledAndUnsampledThrowsFromSameSite() {
+      ApiErrorResponseException.setStackTracePolicy(StackTracePolicy.builder()
+          .mode(ServerErrorResponseException.class, StackTraceMode.ADAPTIVE)
+          .adaptiveThreshold(0)
+          .adaptiveSampleRate(2)
+          .build());
+      try {
+        List<ApiErrorResponseException> exceptions = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+          exceptions.add(serverError(null));
+        }
+
+        assertThat(exceptions.get(0).getStackTrace()).isNotEmpty();
+        assertThat(exceptions.get(1).getStackTrace()).isEmpty();
+        assertThat(ErrorFingerprint.of(exceptions.get(0), 5))
+            .isEqualTo(ErrorFingerprint.of(exceptions.get(1), 5));
+      } finally {
+        ApiErrorResponseException.setStackTracePolicy(StackTracePolicy.fullTraces());
+      }
+    }
+
+    @Test
+    void shouldRenderAsSixteenHexDigits() {
+      assertThat(ErrorFingerprint.toHex(0xabcL)).isEqualTo("0000000000000abc");
+      assertThat(ErrorFingerprint.toHex(-1L)).isEqualTo("ffffffffffffffff");
+    }
+  }
+
+  /**
+   * Without a cause the exception's own frames are fingerprinted, so repeats are thrown from a loop
+   * to share their call site.
+   */
+  @Nested
+  class Deduplication {
+
+    private final RecordingLog log = new RecordingLog();
+
+    @Test
+    void shouldLogFirstOccurrenceAndCountRepeats() {
+      DeduplicatingErrorLog errorLog = DeduplicatingErrorLog.builder(log).build();
+
+      for (int i = 0; i < 1000; i++) {
+        errorLog.log(transferLimitExceeded(null));
+      }
+      errorLog.flush();
+
+      assertThat(log.records).hasSize(2);
+      assertThat(log.records.get(0).message())
+          .startsWith(TransferLimitExceededException.class.getName() + " status=")
+          .contains("code=transfer.transfer_limit_exceeded")
+          .doesNotContain("repeated");
+      assertThat(log.records.get(0).throwable())
+          .isInstanceOf(TransferLimitExceededException.class);
+      assertThat(log.records.get(1).message()).endsWith(" repeated 999 times since last logged");
+      assertThat(log.records.get(1).throwable()).isNull();
+    }
+
+    @Test
+    void shouldLogAgainWithCountOnceWindowPassed() {
+      AtomicLong now = new AtomicLong();
+      DeduplicatingErrorLog errorLog = DeduplicatingErrorLog.builder(log)
+          .window(Duration.ofSeconds(1))
+          .ticker(now::get)
+          .build();
+
+      for (int i = 0; i < 4; i++) {
+        if (i == 3) {
+          now.addAndGet(Duration.ofSeconds(1).toNanos());
+        }
+        errorLog.log(accountSuspended());
+      }
+
+      assertThat(log.records).hasSize(2);
+      assertThat(log.records.get(1).message()).endsWith("(repeated 2 times since last logged)");
+      assertThat(log.records.get(1).throwable()).isNotNull();
+    }
+
+    @Test
+    void shouldReportRepeatsOfEvictedFingerprints() {
+      DeduplicatingErrorLog errorLog = DeduplicatingErrorLog.builder(log).capacity(1).build();
+
+      for (int i = 0; i < 3; i++) {
+        errorLog.log(i < 2 ? accountSuspended() : transferLimitExceeded(null));
+      }
+
+      assertThat(log.records).extracting(LogRecord::message).satisfiesExactly(
+          first -> assertThat(first).contains("code=account.account_suspended"),
+          second -> assertThat(second).contains("code=transfer.transfer_limit_exceeded"),
+          evicted -> assertThat(evicted).contains("code=account.account_suspended")
+              .endsWith(" repeated 1 times since last logged"));
+    }
+
+    @Test
+    void shouldLogServerErrorsAtErrorLevel() {
+      DeduplicatingErrorLog errorLog = DeduplicatingErrorLog.builder(log).build();
+
+      errorLog.log(serverError(new IllegalStateException()));
+      errorLog.log(accountSuspended());
+
+      assertThat(log.records).extracting(LogRecord::level)
+          .containsExactly(SimpleLog.LOG_LEVEL_ERROR, SimpleLog.LOG_LEVEL_WARN);
+    }
+  }
+
+  private record LogRecord(int level, String message, Throwable throwable) {
+  }
+
+  private static final class RecordingLog extends SimpleLog {
+
+    private final List<LogRecord> records = new ArrayList<>();
+
+    private RecordingLog() {
+      super("errors");
+    }
+
+    @Override
+    protected void log(int type, Object message, Throwable t) {
+      records.add(new LogRecord(type, String.valueOf(message), t));
+    }
+  }
+}
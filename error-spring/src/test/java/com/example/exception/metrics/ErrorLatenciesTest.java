@@ -0,0 +1,114 @@
+package com.example.exception.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.exception.domain.AccountSuspendedException;
+import com.example.exception.domain.AccountSuspendedProblemDetail;
+import com.example.exception.validation.PublicValidationErrorResponseException;
+import com.example.exception.validation.ValidationProblemDetail;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ErrorLatenciesTest {
+
+  private enum Operation {
+    GET_USER,
+    CREATE_USER,
+    DELETE_USER
+  }
+
+  @Nested
+  class Histogram {
+
+    @Test
+    void shouldMapDurationsToContiguousBuckets() {
+      for (int bucket = 0; bucket < LatencyHistogram.BUCKETS; bucket++) {
+        long lower = LatencyHistogram.lowerBound(bucket);
+
+        assertThat(LatencyHistogram.bucket(lower)).isEqualTo(bucket);
+        if (bucket < LatencyHistogram.BUCKETS - 1) {
+          assertThat(LatencyHistogram.bucket(LatencyHistogram.upperBound(bucket)))
+              .isEqualTo(bucket);
+          assertThat(LatencyHistogram.lowerBound(bucket + 1))
+              .isEqualTo(LatencyHistogram.upperBound(bucket) + 1);
+        }
+      }
+      assertThat(LatencyHistogram.bucket(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+    }
+
+    @Test
+    void shouldKeepBucketsWithinAnEighthOfTheirValues() {
+      for (int bucket = 8; bucket < LatencyHistogram.BUCKETS - 1; bucket++) {
+        long lower = LatencyHistogram.lowerBound(bucket);
+        long width = LatencyHistogram.upperBound(bucket) - lower + 1;
+
+        assertThat(width * 8).isLessThanOrEqualTo(lower);
+      }
+    }
+
+    @Test
+    void shouldReportPercentilesFromBuckets() {
+      LatencyHistogram histogram = new LatencyHistogram();
+      for (int i = 1; i <= 100; i++) {
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+      }
+
+      LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+      assertThat(snapshot.count()).isEqualTo(100);
+      assertThat(snapshot.totalNanos()).isEqualTo(TimeUnit.MICROSECONDS.toNanos(5050));
+      assertThat(snapshot.valueAtPercentile(50))
+          .isBetween(TimeUnit.MICROSECONDS.toNanos(50), TimeUnit.MICROSECONDS.toNanos(57));
+      assertThat(snapshot.valueAtPercentile(100))
+          .isBetween(TimeUnit.MICROSECONDS.toNanos(100), TimeUnit.MICROSECONDS.toNanos(113));
+      assertThat(new LatencyHistogram().snapshot().valueAtPercentile(99)).isZero();
+    }
+  }
+
+  @Nested
+  class Recording {
+
+    private final ErrorLatencies<Operation> latencies = new ErrorLatencies<>(Operation.class);
+
+    @Test
+    void shouldKeepHistogramPerOperationAndError() {
+      AccountSuspendedException suspended = AccountSuspendedException.builder()
+          .problemDetail(AccountSuspendedProblemDetail.builder().build())
+          .build();
+      PublicValidationErrorResponseException invalid =
+          PublicValidationErrorResponseException.builder()
+              .problemDetail(ValidationProblemDetail.builder().build())
+              .build();
+
+      latencies.record(Operation.CREATE_USER, invalid, 20_000);
+      latencies.record(Operation.CREATE_USER, suspended, 3_000_000);
+      latencies.record(Operation.CREATE_USER, suspended, 4_000_000);
+      latencies.record(Operation.GET_USER, suspended, 1_000_000);
+
+      List<ErrorLatencies.ErrorLatency<Operation>> snapshot = latencies.snapshot();
+
+      assertThat(snapshot)
+          .extracting(latency -> latency.operation() + " " + latency.family() + " "
+              + latency.code() + " " + latency.histogram().count())
+          .containsExactly(
+              "GET_USER DOMAIN account.account_suspended 1",
+              "CREATE_USER VALIDATION null 1",
+              "CREATE_USER DOMAIN account.account_suspended 2");
+    }
+
+    @Test
+    void shouldRecordElapsedTimeSinceStart() {
+      AccountSuspendedException suspended = AccountSuspendedException.builder()
+          .problemDetail(AccountSuspendedProblemDetail.builder().build())
+          .build();
+      long start = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5);
+
+      latencies.recordSince(Operation.DELETE_USER, suspended, start);
+
+      assertThat(latencies.snapshot().get(0).histogram().totalNanos())
+          .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+    }
+  }
+}
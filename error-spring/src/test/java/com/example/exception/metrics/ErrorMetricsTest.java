@@ -0,0 +1,147 @@
+package com.example.exception.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.example.exception.access.AccessProblemDetail;
+import com.example.exception.access.PublicAccessErrorResponseException;
+import com.example.exception.domain.AccountSuspendedException;
+import com.example.exception.domain.AccountSuspendedProblemDetail;
+import com.example.exception.validation.InvalidFormatValidationError;
+import com.example.exception.validation.MissingValueValidationError;
+import com.example.exception.validation.PublicValidationErrorResponseException;
+import com.example.exception.validation.ValidationProblemDetail;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.util.stream.Stream;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class ErrorMetricsTest {
+
+  private final ErrorMetrics metrics = new ErrorMetrics();
+
+  private static AccountSuspendedException accountSuspended() {
+    return AccountSuspendedException.builder()
+        .problemDetail(AccountSuspendedProblemDetail.builder()
+            .status(HttpStatus.FORBIDDEN)
+            .build())
+        .build();
+  }
+
+  private static PublicAccessErrorResponseException unauthorized() {
+    return PublicAccessErrorResponseException.builder()
+        .problemDetail(AccessProblemDetail.builder()
+            .status(HttpStatus.UNAUTHORIZED)
+            .title("Unauthorized")
+            .build())
+        .build();
+  }
+
+  private static PublicValidationErrorResponseException invalid() {
+    return PublicValidationErrorResponseException.builder()
+        .problemDetail(ValidationProblemDetail.builder()
+            .error(MissingValueValidationError.builder().ref("name").build())
+            .error(MissingValueValidationError.builder().ref("email").build())
+            .error(InvalidFormatValidationError.builder().ref("phone").build())
+            .build())
+        .build();
+  }
+
+  @Nested
+  class Recording {
+
+    @Test
+    void shouldCountDomainExceptionsByCodeAndStatus() {
+      metrics.record(accountSuspended());
+      metrics.record(accountSuspended());
+      metrics.record(unauthorized());
+
+      assertThat(metrics.getCounts()).containsExactly(
+          entry("access:401", 1L),
+          entry("domain:account.account_suspended:403", 2L));
+      assertThat(metrics.getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldCountEachValidationErrorByCode() {
+      metrics.record(invalid());
+
+      assertThat(metrics.getCounts()).containsOnly(
+          entry("validation:400", 1L),
+          entry("validation:missing_value:400", 2L),
+          entry("validation:invalid_format:400", 1L));
+      assertThat(metrics.getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotConsumeStreamedErrors() {
+      PublicValidationErrorResponseException exception =
+          PublicValidationErrorResponseException.builder()
+              .problemDetail(ValidationProblemDetail.builder()
+                  .streamErrors(() -> Stream.of(
+                      MissingValueValidationError.builder().ref("name").build()).iterator())
+                  .build())
+              .build();
+
+      metrics.record(exception);
+
+      assertThat(exception.getProblemDetail().isStreamed()).isTrue();
+      assertThat(metrics.getCounts()).containsOnly(entry("validation:400", 1L));
+    }
+
+    @Test
+    void shouldSnapshotEveryOccurredCombination() {
+      metrics.record(accountSuspended());
+
+      assertThat(metrics.snapshot()).containsExactly(new ErrorMetrics.ErrorCount(
+          ErrorFamily.DOMAIN, "account.account_suspended", 403, 1));
+    }
+
+    @Test
+    void shouldNotRecordExceptionsWhenBuilt() {
+      long before = ErrorMetrics.global().getTotal();
+
+      accountSuspended();
+
+      assertThat(ErrorMetrics.global().getTotal()).isEqualTo(before);
+    }
+  }
+
+  @Nested
+  class Exposure {
+
+    @Test
+    void shouldRegisterMBeanOnce() throws Exception {
+      ObjectName name = ErrorMetrics.global().registerMBean();
+
+      assertThat(ErrorMetrics.global().registerMBean()).isEqualTo(name);
+      assertThat(ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Total"))
+          .isInstanceOf(Long.class);
+    }
+
+    @Test
+    void shouldBindCountersForExistingAndLaterCells() {
+      SimpleMeterRegistry registry = new SimpleMeterRegistry();
+      metrics.record(unauthorized());
+
+      new ErrorMetricsBinder(metrics).bindTo(registry);
+      metrics.record(accountSuspended());
+      metrics.record(accountSuspended());
+
+      assertThat(counter(registry, "access", "none", "401").count()).isEqualTo(1);
+      assertThat(counter(registry, "domain", "account.account_suspended", "403").count())
+          .isEqualTo(2);
+    }
+
+    private FunctionCounter counter(SimpleMeterRegistry registry, String family, String code,
+        String status) {
+      return registry.get(ErrorMetricsBinder.METER_NAME)
+          .tags("family", family, "code", code, "status", status)
+          .functionCounter();
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.example.exception.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.exception.access.AccessProblemDetail;
+import com.example.exception.access.PublicAccessErrorResponseException;
+import com.example.exception.json.ProblemDetailModule;
+import com.example.exception.metrics.ErrorMetrics;
+import com.example.exception.server.InternalServerErrorResponseException;
+import com.example.exception.server.ServerProblemDetail;
+import com.example.exception.validation.MissingValueValidationError;
+import com.example.exception.validation.PublicValidationErrorResponseException;
+import com.example.exception.validation.ValidationProblemDetail;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.ModelAndView;
+
+class ProblemDetailExceptionResolverTest {
+
+  private ObjectMapper objectMapper;
+  private ProblemDetailExceptionResolver resolver;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    objectMapper.addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class);
+    objectMapper.registerModule(new ProblemDetailModule());
+    resolver = new ProblemDetailExceptionResolver(objectMapper);
+  }
+
+  private MockHttpServletResponse resolve(Exception exception) {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    ModelAndView result = resolver.resolveException(
+        new MockHttpServletRequest("GET", "/accounts"), response, null, exception);
+    assertThat(result).isNotNull();
+    return response;
+  }
+
+  @Nested
+  class SharedBody {
+
+    @Test
+    void shouldWritePreRenderedBytes() throws Exception {
+      AccessProblemDetail body = AccessProblemDetail.builder()
+          .status(HttpStatus.UNAUTHORIZED)
+          .title("Unauthorized")
+          .buildShared();
+      PublicAccessErrorResponseException exception = PublicAccessErrorResponseException.builder()
+          .problemDetail(body)
+          .build();
+      exception.getHeaders().add(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+
+      MockHttpServletResponse first = resolve(exception);
+      MockHttpServletResponse second = resolve(exception);
+
+      assertThat(first.getStatus()).isEqualTo(401);
+      assertThat(first.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+      assertThat(first.getHeader(HttpHeaders.WWW_AUTHENTICATE)).isEqualTo("Bearer");
+      assertThat(first.getContentAsByteArray())
+          .isEqualTo(objectMapper.writeValueAsBytes(body))
+          .isEqualTo(second.getContentAsByteArray());
+      assertThat(first.getContentLength()).isEqualTo(first.getContentAsByteArray().length);
+      assertThat(body.getInstance()).isNull();
+    }
+
+    @Test
+    void shouldSerializeModifiedCopyOfSharedBody() throws Exception {
+      AccessProblemDetail body = AccessProblemDetail.builder()
+          .status(HttpStatus.UNAUTHORIZED)
+          .title("Unauthorized")
+          .buildShared();
+      resolve(PublicAccessErrorResponseException.builder().problemDetail(body).build());
+      PublicAccessErrorResponseException exception = PublicAccessErrorResponseException.builder()
+          .problemDetail(body)
+          .build();
+      exception.setInstance(URI.create("/accounts"));
+
+      MockHttpServletResponse response = resolve(exception);
+
+      assertThat(response.getContentAsByteArray())
+          .isEqualTo(objectMapper.writeValueAsBytes(exception.getBody()));
+      assertThat(response.getContentAsString()).contains("\"instance\":\"/accounts\"");
+      assertThat(body.getInstance()).isNull();
+    }
+  }
+
+  @Nested
+  class VariableBody {
+
+    @Test
+    void shouldStreamValidationProblemDetail() throws Exception {
+      PublicValidationErrorResponseException exception = PublicValidationErrorResponseException
+          .builder()
+          .problemDetail(ValidationProblemDetail.builder()
+              .error(MissingValueValidationError.builder().ref("email").build())
+              .build())
+          .build();
+
+      MockHttpServletResponse response = resolve(exception);
+
+      JsonNode json = objectMapper.readTree(response.getContentAsByteArray());
+      assertThat(response.getStatus()).isEqualTo(400);
+      assertThat(json.at("/errors/0/ref").asText()).isEqualTo("email");
+      assertThat(json.at("/errors/0/code").asText()).isEqualTo("missing_value");
+    }
+
+    @Test
+    void shouldWriteUnsharedServerProblemDetail() throws Exception {
+      InternalServerErrorResponseException exception = InternalServerErrorResponseException
+          .builder()
+          .problemDetail(ServerProblemDetail.builder().title("Internal Server Error").build())
+          .build();
+
+      MockHttpServletResponse response = resolve(exception);
+
+      assertThat(response.getStatus()).isEqualTo(500);
+      assertThat(objectMapper.readTree(response.getContentAsByteArray()).get("title").asText())
+          .isEqualTo("Internal Server Error");
+    }
+  }
+
+  @Test
+  void shouldCountResolvedExceptions() {
+    InternalServerErrorResponseException exception = InternalServerErrorResponseException.builder()
+        .problemDetail(ServerProblemDetail.builder().title("Internal Server Error").build())
+        .build();
+    long before = ErrorMetrics.global().getTotal();
+
+    resolve(exception);
+
+    assertThat(ErrorMetrics.global().getTotal()).isEqualTo(before + 1);
+  }
+
+  @Test
+  void shouldLeaveOtherExceptionsToNextResolver() {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    assertThat(resolver.resolveException(new MockHttpServletRequest(), response, null,
+        new IllegalStateException("boom"))).isNull();
+    assertThat(response.getContentAsByteArray()).isEmpty();
+  }
+}
@@ -0,0 +1,165 @@
+package com.example.exception.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.exception.access.AccessProblemDetail;
+import com.example.exception.access.PublicAccessErrorResponseException;
+import com.example.exception.json.ProblemDetailModule;
+import com.example.exception.metrics.ErrorMetrics;
+import com.example.exception.validation.MissingValueValidationError;
+import com.example.exception.validation.PublicValidationErrorResponseException;
+import com.example.exception.validation.RefPath;
+import com.example.exception.validation.ValidationProblemDetail;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+class ProblemDetailWebExceptionHandlerTest {
+
+  private ObjectMapper objectMapper;
+  private ProblemDetailWebExceptionHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    objectMapper.addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class);
+    objectMapper.registerModule(new ProblemDetailModule());
+    handler = new ProblemDetailWebExceptionHandler(objectMapper);
+  }
+
+  private static MockServerWebExchange exchange() {
+    return MockServerWebExchange.from(MockServerHttpRequest.get("/users"));
+  }
+
+  @Nested
+  class SingleBuffer {
+
+    @Test
+    void shouldWriteSharedBodyFromCachedBytes() throws Exception {
+      AccessProblemDetail body = AccessProblemDetail.builder()
+          .status(HttpStatus.UNAUTHORIZED)
+          .title("Unauthorized")
+          .buildShared();
+      MockServerWebExchange exchange = exchange();
+
+      handler.handle(exchange, PublicAccessErrorResponseException.builder()
+          .problemDetail(body)
+          .build()).block();
+
+      assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+      assertThat(exchange.getResponse().getHeaders().getContentType())
+          .isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+      assertThat(exchange.getResponse().getBodyAsString().block())
+          .isEqualTo(objectMapper.writeValueAsString(body));
+    }
+
+    @Test
+    void shouldWriteSmallValidationProblemDetail() throws Exception {
+      MockServerWebExchange exchange = exchange();
+
+      handler.handle(exchange, validationException(3)).block();
+
+      JsonNode json = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+      assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+      assertThat(json.get("errors")).hasSize(3);
+    }
+  }
+
+  @Nested
+  class Streaming {
+
+    @Test
+    void shouldStreamLargeValidationProblemDetailInChunks() throws Exception {
+      MockServerWebExchange exchange = exchange();
+
+      handler.handle(exchange, validationException(5_000)).block();
+
+      List<byte[]> chunks = exchange.getResponse().getBody()
+          .map(ProblemDetailWebExceptionHandlerTest::bytes)
+          .collectList()
+          .block();
+      assertThat(chunks).hasSizeGreaterThan(1);
+      JsonNode json = objectMapper.readTree(concat(chunks));
+      assertThat(json.get("errors")).hasSize(5_000);
+      assertThat(json.at("/errors/4999/ref").asText()).isEqualTo("users[4999].email");
+    }
+
+    @Test
+    void shouldStreamErrorsFromStreamedSource() throws Exception {
+      ValidationProblemDetail body = ValidationProblemDetail.builder()
+          .maxErrors(10)
+          .streamErrors(() -> IntStream.range(0, 100)
+              .mapToObj(i -> MissingValueValidationError.builder()
+                  .ref(RefPath.of("users").index(i))
+                  .build())
+              .iterator())
+          .build();
+      MockServerWebExchange exchange = exchange();
+
+      handler.handle(exchange, PublicValidationErrorResponseException.builder()
+          .problemDetail(body)
+          .build()).block();
+
+      JsonNode json = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+      assertThat(json.get("errors")).hasSize(10);
+      assertThat(json.get("truncated").asBoolean()).isTrue();
+    }
+  }
+
+  @Test
+  void shouldCountHandledExceptions() {
+    long before = ErrorMetrics.global().getTotal();
+
+    handler.handle(exchange(), validationException(1)).block();
+
+    assertThat(ErrorMetrics.global().getTotal()).isEqualTo(before + 1);
+  }
+
+  @Test
+  void shouldPassOnOtherExceptions() {
+    IllegalStateException failure = new IllegalStateException("boom");
+
+    assertThatThrownBy(() -> handler.handle(exchange(), failure).block()).isSameAs(failure);
+  }
+
+  private static PublicValidationErrorResponseException validationException(int errorCount) {
+    ValidationProblemDetail.Builder builder = ValidationProblemDetail.builder();
+    for (int i = 0; i < errorCount; i++) {
+      builder.error(MissingValueValidationError.builder()
+          .ref(RefPath.of("users").index(i).property("email"))
+          .build());
+    }
+    return PublicValidationErrorResponseException.builder().problemDetail(builder.build()).build();
+  }
+
+  private static byte[] bytes(DataBuffer buffer) {
+    byte[] bytes = new byte[buffer.readableByteCount()];
+    buffer.read(bytes);
+    DataBufferUtils.release(buffer);
+    return bytes;
+  }
+
+  private static byte[] concat(List<byte[]> chunks) {
+    int length = chunks.stream().mapToInt(chunk -> chunk.length).sum();
+    byte[] bytes = new byte[length];
+    int offset = 0;
+    for (byte[] chunk : chunks) {
+      System.arraycopy(chunk, 0, bytes, offset, chunk.length);
+      offset += chunk.length;
+    }
+    return bytes;
+  }
+}
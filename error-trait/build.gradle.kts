@@ -8,4 +8,5 @@ val smithyVersion: String by project
 dependencies {
     implementation("software.amazon.smithy:smithy-model:$smithyVersion")
     implementation("software.amazon.smithy:smithy-openapi:$smithyVersion")
+    implementation("software.amazon.smithy:smithy-build:$smithyVersion")
 }
@@ -0,0 +1,89 @@
+package com.example.codegen;
+
+import com.example.openapi.ErrorShapeIndex;
+import software.amazon.smithy.build.PluginContext;
+import software.amazon.smithy.build.SmithyBuildPlugin;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.MixinTrait;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * Smithy build plugin that compiles the error codes of the model into a binary catalog mapping
+ * each code to its HTTP status, type URI and title, so applications can resolve code metadata
+ * from the model instead of hand-written constants.
+ *
+ * Every @error structure with a string @const {@code code} member becomes an entry. The status
+ * comes from the @const {@code status} member, falling back to @httpError; {@code type} and
+ * {@code title} come from their @const members. See {@link ErrorCatalogWriter} for the format.
+ *
+ * Settings:
+ * <ul>
+ *   <li>{@code path}: file name of the catalog, defaults to {@value #DEFAULT_PATH}.</li>
+ *   <li>{@code namespace}: only catalog errors in this Smithy namespace.</li>
+ * </ul>
+ */
+public final class ErrorCatalogPlugin implements SmithyBuildPlugin {
+
+    static final String NAME = "error-catalog";
+    static final String DEFAULT_PATH = "error-catalog.bin";
+
+    private static final Logger LOGGER = Logger.getLogger(ErrorCatalogPlugin.class.getName());
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void execute(PluginContext context) {
+        Model model = context.getModel();
+        ObjectNode settings = context.getSettings();
+        String path = settings.getStringMemberOrDefault("path", DEFAULT_PATH);
+        Optional<String> namespace = settings.getStringMember("namespace").map(StringNode::getValue);
+        ErrorShapeIndex errorIndex = ErrorShapeIndex.of(model);
+
+        List<ErrorCatalogWriter.Entry> entries = new ArrayList<>();
+        errorIndex.getErrorShapes().stream()
+                .filter(shape -> !shape.hasTrait(MixinTrait.class))
+                .filter(shape -> namespace.map(shape.getId().getNamespace()::equals).orElse(true))
+                .sorted(Comparator.comparing(StructureShape::getId))
+                .forEach(shape -> toEntry(errorIndex, shape).ifPresent(entries::add));
+
+        LOGGER.fine("Writing error catalog with " + entries.size() + " codes to " + path);
+        context.getFileManifest().writeFile(path, new ByteArrayInputStream(ErrorCatalogWriter.write(entries)));
+    }
+
+    private static Optional<ErrorCatalogWriter.Entry> toEntry(ErrorShapeIndex errorIndex, StructureShape shape) {
+        Optional<String> code = constString(errorIndex, shape, "code");
+        if (code.isEmpty()) {
+            LOGGER.fine("Skipping " + shape.getId() + ": no @const code");
+            return Optional.empty();
+        }
+        int status = shape.getMember("status")
+                .flatMap(errorIndex::getConstValue)
+                .flatMap(Node::asNumberNode)
+                .map(node -> node.getValue().intValue())
+                .or(() -> errorIndex.getStatusCode(shape.getId()))
+                .orElseThrow();
+        return Optional.of(new ErrorCatalogWriter.Entry(code.get(), status,
+                constString(errorIndex, shape, "type").orElse(""),
+                constString(errorIndex, shape, "title").orElse("")));
+    }
+
+    private static Optional<String> constString(ErrorShapeIndex errorIndex, StructureShape shape, String member) {
+        return shape.getMember(member)
+                .flatMap(errorIndex::getConstValue)
+                .flatMap(Node::asStringNode)
+                .map(StringNode::getValue);
+    }
+}
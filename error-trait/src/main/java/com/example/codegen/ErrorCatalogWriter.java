@@ -0,0 +1,182 @@
+package com.example.codegen;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Encodes error catalog entries into the binary format read by {@code ErrorCatalog} in
+ * error-spring, including a minimal perfect hash over the error codes built with the
+ * hash-and-displace method.
+ *
+ * Layout, all integers big-endian:
+ * <pre>
+ * int   magic ("ERRC")
+ * int   version
+ * int   entryCount
+ * int   bucketCount
+ * int[] seeds        one per bucket
+ * int[] slots        one per entry, holding the index of the entry hashed to the slot
+ * entries            int status, int code, int type, int title (offsets into the string pool)
+ * string pool        unsigned short length followed by UTF-8 bytes
+ * </pre>
+ *
+ * A code is looked up by hashing it with seed 0 to pick its bucket, then with the bucket's seed
+ * to pick its slot. The hash function must stay in sync with the reader.
+ */
+final class ErrorCatalogWriter {
+
+    static final int MAGIC = 0x45525243;
+    static final int VERSION = 1;
+
+    private static final int MAX_SEED = 1 << 24;
+
+    /**
+     * One catalog entry. {@code type} and {@code title} may be empty.
+     */
+    record Entry(String code, int status, String type, String title) {
+    }
+
+    private ErrorCatalogWriter() {
+    }
+
+    static byte[] write(List<Entry> entries) {
+        int entryCount = entries.size();
+        int bucketCount = Math.max(1, (entryCount + 1) / 2);
+        int[] seeds = new int[bucketCount];
+        int[] slots = new int[entryCount];
+        Arrays.fill(slots, -1);
+
+        List<List<Integer>> buckets = new ArrayList<>();
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < entryCount; i++) {
+            String code = entries.get(i).code();
+            if (!codes.add(code)) {
+                throw new IllegalArgumentException("Duplicate error code in catalog: " + code);
+            }
+            buckets.get(index(hash(code, 0), bucketCount)).add(i);
+        }
+
+        // Place the fullest buckets first, while most slots are still free
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < bucketCount; i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingInt((Integer bucket) -> buckets.get(bucket).size()).reversed());
+
+        for (int bucket : order) {
+            List<Integer> members = buckets.get(bucket);
+            if (members.isEmpty()) {
+                continue;
+            }
+            seeds[bucket] = findSeed(entries, members, slots);
+            for (int entry : members) {
+                slots[index(hash(entries.get(entry).code(), seeds[bucket]), entryCount)] = entry;
+            }
+        }
+
+        try {
+            return encode(entries, seeds, slots);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int findSeed(List<Entry> entries, List<Integer> members, int[] slots) {
+        Set<Integer> taken = new HashSet<>();
+        for (int seed = 1; seed < MAX_SEED; seed++) {
+            taken.clear();
+            boolean placed = true;
+            for (int entry : members) {
+                int slot = index(hash(entries.get(entry).code(), seed), slots.length);
+                if (slots[slot] != -1 || !taken.add(slot)) {
+                    placed = false;
+                    break;
+                }
+            }
+            if (placed) {
+                return seed;
+            }
+        }
+        throw new IllegalStateException("No perfect hash seed found for " + members.size() + " error codes");
+    }
+
+    private static byte[] encode(List<Entry> entries, int[] seeds, int[] slots) throws IOException {
+        ByteArrayOutputStream pool = new ByteArrayOutputStream();
+        DataOutputStream poolOut = new DataOutputStream(pool);
+        Map<String, Integer> offsets = new HashMap<>();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(entries.size());
+        out.writeInt(seeds.length);
+        for (int seed : seeds) {
+            out.writeInt(seed);
+        }
+        for (int slot : slots) {
+            out.writeInt(slot);
+        }
+        for (Entry entry : entries) {
+            out.writeInt(entry.status());
+            out.writeInt(intern(entry.code(), offsets, poolOut));
+            out.writeInt(intern(entry.type(), offsets, poolOut));
+            out.writeInt(intern(entry.title(), offsets, poolOut));
+        }
+        pool.writeTo(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static int intern(String value, Map<String, Integer> offsets, DataOutputStream pool)
+            throws IOException {
+        Integer offset = offsets.get(value);
+        if (offset != null) {
+            return offset;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length > 0xFFFF) {
+            throw new IllegalArgumentException("Catalog string too long: " + value.substring(0, 32) + "...");
+        }
+        int position = pool.size();
+        pool.writeShort(utf8.length);
+        pool.write(utf8);
+        offsets.put(value, position);
+        return position;
+    }
+
+    static int index(int hash, int size) {
+        return (hash & 0x7FFFFFFF) % size;
+    }
+
+    /**
+     * FNV-1a over the UTF-16 code units of the key, finished with the murmur3 mixer.
+     */
+    static int hash(String key, int seed) {
+        int h = seed ^ 0x811C9DC5;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
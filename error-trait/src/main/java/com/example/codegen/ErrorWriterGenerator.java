@@ -0,0 +1,477 @@
+package com.example.codegen;
+
+import com.example.traits.ConstTrait;
+import com.example.traits.MemberExampleTrait;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.loader.Prelude;
+import software.amazon.smithy.model.neighbor.Walker;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.ListShape;
+import software.amazon.smithy.model.shapes.MapShape;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.shapes.UnionShape;
+import software.amazon.smithy.model.traits.JsonNameTrait;
+import software.amazon.smithy.model.traits.MixinTrait;
+import software.amazon.smithy.model.traits.RequiredTrait;
+import software.amazon.smithy.model.traits.TimestampFormatTrait;
+import software.amazon.smithy.utils.CaseUtils;
+import software.amazon.smithy.utils.SimpleCodeWriter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the Java sources emitted by {@link ErrorWriterPlugin}: a {@code JsonWritable}
+ * interface, a record per structure and a sealed interface per union reachable from the given
+ * error shapes, plus a {@code JsonTimestamps} helper when any of them has a timestamp.
+ */
+final class ErrorWriterGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(ErrorWriterGenerator.class.getName());
+
+    private static final String WRITABLE = "JsonWritable";
+    private static final String TIMESTAMPS = "JsonTimestamps";
+    private static final String SUFFIX = "Writer";
+    private static final Set<String> RESERVED_WORDS = Set.of(
+            "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class",
+            "const", "continue", "default", "do", "double", "else", "enum", "extends", "final",
+            "finally", "float", "for", "goto", "if", "implements", "import", "instanceof", "int",
+            "interface", "long", "native", "new", "package", "private", "protected", "public",
+            "return", "short", "static", "strictfp", "super", "switch", "synchronized", "this",
+            "throw", "throws", "transient", "try", "void", "volatile", "while", "record", "yield");
+
+    private final Model model;
+    private final String packageName;
+    private boolean timestamps;
+
+    ErrorWriterGenerator(Model model, String packageName) {
+        this.model = model;
+        this.packageName = packageName;
+    }
+
+    /**
+     * Returns the generated sources keyed by simple class name.
+     */
+    Map<String, String> generate(List<StructureShape> errors) {
+        Set<Shape> shapes = new TreeSet<>();
+        Walker walker = new Walker(model);
+        for (StructureShape error : errors) {
+            for (Shape shape : walker.walkShapes(error)) {
+                if ((shape.isStructureShape() || shape.isUnionShape())
+                        && !shape.hasTrait(MixinTrait.class)
+                        && !Prelude.isPreludeShape(shape)) {
+                    shapes.add(shape);
+                }
+            }
+        }
+
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put(WRITABLE, writableInterface());
+        for (Shape shape : shapes) {
+            String className = className(shape.getId());
+            if (shape.isStructureShape()) {
+                sources.put(className, structureWriter(shape.asStructureShape().get()));
+            } else {
+                sources.put(className, unionWriter(shape.asUnionShape().get()));
+            }
+        }
+        if (timestamps) {
+            sources.put(TIMESTAMPS, timestampsHelper());
+        }
+        return sources;
+    }
+
+    private String writableInterface() {
+        SimpleCodeWriter writer = header(Set.of("com.fasterxml.jackson.core.JsonGenerator", "java.io.IOException"));
+        writer.write("/**");
+        writer.write(" * A generated value that writes itself as JSON.");
+        writer.write(" */");
+        writer.openBlock("public interface $L {", WRITABLE);
+        writer.write("");
+        writer.write("void writeTo(JsonGenerator gen) throws IOException;");
+        writer.closeBlock("}");
+        return writer.toString();
+    }
+
+    private String timestampsHelper() {
+        SimpleCodeWriter writer = header(Set.of("com.fasterxml.jackson.core.JsonGenerator", "java.io.IOException",
+                "java.math.BigDecimal", "java.time.Instant", "java.time.ZoneOffset",
+                "java.time.format.DateTimeFormatter", "java.util.Locale"));
+        writer.write("/**");
+        writer.write(" * Writes timestamps in the formats of Smithy's @timestampFormat.");
+        writer.write(" *");
+        writer.write(" * Generated by the $L Smithy build plugin, do not edit.", ErrorWriterPlugin.NAME);
+        writer.write(" */");
+        writer.openBlock("final class $L {", TIMESTAMPS);
+        writer.write("");
+        writer.write("private static final DateTimeFormatter HTTP_DATE =");
+        writer.write("        DateTimeFormatter.ofPattern(\"EEE, dd MMM yyyy HH:mm:ss 'GMT'\", Locale.US).withZone(ZoneOffset.UTC);");
+        writer.write("");
+        writer.openBlock("private $L() {", TIMESTAMPS);
+        writer.closeBlock("}");
+        writer.write("");
+        writer.write("/**");
+        writer.write(" * Writes {@code value} as seconds since the epoch, with a fraction if it has one.");
+        writer.write(" */");
+        writer.openBlock("static void writeEpochSeconds(JsonGenerator gen, Instant value) throws IOException {");
+        writer.openBlock("if (value.getNano() == 0) {");
+        writer.write("gen.writeNumber(value.getEpochSecond());");
+        writer.dedent();
+        writer.openBlock("} else {");
+        writer.write("gen.writeNumber(BigDecimal.valueOf(value.getEpochSecond())");
+        writer.write("        .add(BigDecimal.valueOf(value.getNano(), 9))");
+        writer.write("        .stripTrailingZeros());");
+        writer.closeBlock("}");
+        writer.closeBlock("}");
+        writer.write("");
+        writer.write("/**");
+        writer.write(" * Writes {@code value} as an RFC 3339 date-time in UTC.");
+        writer.write(" */");
+        writer.openBlock("static void writeDateTime(JsonGenerator gen, Instant value) throws IOException {");
+        writer.write("gen.writeString(value.toString());");
+        writer.closeBlock("}");
+        writer.write("");
+        writer.write("/**");
+        writer.write(" * Writes {@code value} as an RFC 7231 IMF-fixdate.");
+        writer.write(" */");
+        writer.openBlock("static void writeHttpDate(JsonGenerator gen, Instant value) throws IOException {");
+        writer.write("gen.writeString(HTTP_DATE.format(value));");
+        writer.closeBlock("}");
+        writer.closeBlock("}");
+        return writer.toString();
+    }
+
+    private String structureWriter(StructureShape shape) {
+        Imports imports = new Imports();
+        imports.add("com.fasterxml.jackson.core.JsonGenerator");
+        imports.add("com.fasterxml.jackson.core.io.SerializedString");
+        imports.add("java.io.IOException");
+
+        List<Component> components = new ArrayList<>();
+        List<MemberShape> constants = new ArrayList<>();
+        List<MemberShape> written = new ArrayList<>();
+        for (MemberShape member : shape.getAllMembers().values()) {
+            if (member.hasTrait(ConstTrait.class)) {
+                constants.add(member);
+                written.add(member);
+                continue;
+            }
+            Optional<String> type = javaType(member.getTarget(), imports);
+            if (type.isEmpty()) {
+                LOGGER.warning("Skipping " + member.getId() + ": unsupported target " + member.getTarget());
+                continue;
+            }
+            components.add(new Component(member, fieldName(member), type.get()));
+            written.add(member);
+        }
+
+        SimpleCodeWriter body = new SimpleCodeWriter();
+        body.write("/**");
+        body.write(" * Writes {@code $L} as JSON.", shape.getId());
+        body.write(" *");
+        body.write(" * Generated by the $L Smithy build plugin, do not edit.", ErrorWriterPlugin.NAME);
+        if (components.stream().anyMatch(component -> component.member().hasTrait(MemberExampleTrait.class))) {
+            body.write(" *");
+        }
+        for (Component component : components) {
+            component.member().getTrait(MemberExampleTrait.class).ifPresent(example -> body.write(
+                    " * @param $L e.g. $L", component.name(), javadocCode(Node.printJson(example.getValue()))));
+        }
+        body.write(" */");
+        body.openBlock("public record $L(", className(shape.getId()));
+        for (int i = 0; i < components.size(); i++) {
+            Component component = components.get(i);
+            body.write("$L $L$L", component.type(), component.name(), i < components.size() - 1 ? "," : "");
+        }
+        body.dedent();
+        body.openBlock(") implements $L {", WRITABLE);
+        body.write("");
+
+        for (MemberShape member : written) {
+            body.write("private static final SerializedString $L = new SerializedString($S);",
+                    constantName(member) + "_NAME", jsonName(member));
+        }
+        for (MemberShape member : constants) {
+            body.write("private static final SerializedString $L = new SerializedString($S);",
+                    constantName(member) + "_VALUE", Node.printJson(member.expectTrait(ConstTrait.class).getValue()));
+        }
+        body.write("");
+
+        String parameters = components.stream()
+                .map(component -> ", " + component.type() + " " + component.name())
+                .collect(Collectors.joining());
+        String arguments = components.stream()
+                .map(component -> ", " + component.name())
+                .collect(Collectors.joining());
+        body.write("@Override");
+        body.openBlock("public void writeTo(JsonGenerator gen) throws IOException {");
+        body.write("write(gen$L);", arguments);
+        body.closeBlock("}");
+        body.write("");
+        body.write("/**");
+        body.write(" * Writes the given members as JSON, without creating a writer.");
+        body.write(" */");
+        body.openBlock("public static void write(JsonGenerator gen$L) throws IOException {", parameters);
+        body.write("gen.writeStartObject();");
+        for (MemberShape member : written) {
+            if (member.hasTrait(ConstTrait.class)) {
+                body.write("gen.writeFieldName($L_NAME);", constantName(member));
+                body.write("gen.writeRawValue($L_VALUE);", constantName(member));
+                continue;
+            }
+            Component component = components.stream()
+                    .filter(it -> it.member().equals(member))
+                    .findFirst()
+                    .orElseThrow();
+            if (member.hasTrait(RequiredTrait.class)) {
+                body.write("gen.writeFieldName($L_NAME);", constantName(member));
+                writeNullable(body, member, component.name(), 0);
+            } else {
+                body.openBlock("if ($L != null) {", component.name());
+                body.write("gen.writeFieldName($L_NAME);", constantName(member));
+                writeValue(body, member, component.name(), 0);
+                body.closeBlock("}");
+            }
+        }
+        body.write("gen.writeEndObject();");
+        body.closeBlock("}");
+        body.closeBlock("}");
+
+        return header(imports.names()).toString() + body;
+    }
+
+    private String unionWriter(UnionShape shape) {
+        Imports imports = new Imports();
+        imports.add("com.fasterxml.jackson.core.JsonGenerator");
+        imports.add("com.fasterxml.jackson.core.io.SerializedString");
+        imports.add("java.io.IOException");
+
+        String interfaceName = className(shape.getId());
+        boolean flat = isFlat(shape);
+        SimpleCodeWriter body = new SimpleCodeWriter();
+        body.write("/**");
+        body.write(" * Writes {@code $L} as JSON, one record per union member.", shape.getId());
+        if (flat) {
+            body.write(" * Members are written as is, told apart by their constant members.");
+        }
+        body.write(" *");
+        body.write(" * Generated by the $L Smithy build plugin, do not edit.", ErrorWriterPlugin.NAME);
+        body.write(" */");
+        body.openBlock("public sealed interface $L extends $L {", interfaceName, WRITABLE);
+
+        for (MemberShape member : shape.getAllMembers().values()) {
+            Optional<String> type = javaType(member.getTarget(), imports);
+            if (type.isEmpty()) {
+                LOGGER.warning("Skipping " + member.getId() + ": unsupported target " + member.getTarget());
+                continue;
+            }
+            body.write("");
+            body.openBlock("record $L($L value) implements $L {",
+                    variantName(member), type.get(), interfaceName);
+            body.write("");
+            if (!flat) {
+                body.write("private static final SerializedString NAME = new SerializedString($S);", jsonName(member));
+                body.write("");
+            }
+            body.write("@Override");
+            body.openBlock("public void writeTo(JsonGenerator gen) throws IOException {");
+            if (flat) {
+                writeNullable(body, member, "value", 0);
+            } else {
+                body.write("gen.writeStartObject();");
+                body.write("gen.writeFieldName(NAME);");
+                writeNullable(body, member, "value", 0);
+                body.write("gen.writeEndObject();");
+            }
+            body.closeBlock("}");
+            body.closeBlock("}");
+        }
+        body.closeBlock("}");
+
+        if (flat) {
+            imports.remove("com.fasterxml.jackson.core.io.SerializedString");
+        }
+        return header(imports.names()).toString() + body;
+    }
+
+    /**
+     * Whether every member of {@code shape} targets a structure with a @const member, such as the
+     * {@code code} of error-spring's validation errors, which tells the members apart on the wire
+     * so they are written without the Smithy member name wrapper.
+     */
+    private boolean isFlat(UnionShape shape) {
+        return shape.getAllMembers().values().stream()
+                .map(member -> model.expectShape(member.getTarget()))
+                .allMatch(target -> target.isStructureShape() && target.getAllMembers().values().stream()
+                        .anyMatch(member -> member.hasTrait(ConstTrait.class)));
+    }
+
+    private void writeNullable(SimpleCodeWriter writer, MemberShape member, String expression, int depth) {
+        writer.openBlock("if ($L == null) {", expression);
+        writer.write("gen.writeNull();");
+        writer.dedent();
+        writer.openBlock("} else {");
+        writeValue(writer, member, expression, depth);
+        writer.closeBlock("}");
+    }
+
+    private void writeValue(SimpleCodeWriter writer, MemberShape member, String expression, int depth) {
+        ShapeId target = member.getTarget();
+        Shape shape = model.expectShape(target);
+        switch (shape.getType()) {
+            case STRING, ENUM -> writer.write("gen.writeString($L);", expression);
+            case BOOLEAN -> writer.write("gen.writeBoolean($L);", expression);
+            case BYTE, SHORT, INTEGER, INT_ENUM, LONG, FLOAT, DOUBLE, BIG_DECIMAL, BIG_INTEGER ->
+                    writer.write("gen.writeNumber($L);", expression);
+            case TIMESTAMP -> {
+                timestamps = true;
+                writer.write("$L.write$L(gen, $L);", TIMESTAMPS, timestampWriter(member), expression);
+            }
+            case STRUCTURE, UNION -> writer.write("$L.writeTo(gen);", expression);
+            case LIST, SET -> {
+                String item = "item" + depth;
+                MemberShape itemMember = ((ListShape) shape).getMember();
+                writer.write("gen.writeStartArray();");
+                writer.openBlock("for (var $L : $L) {", item, expression);
+                writeValue(writer, itemMember, item, depth + 1);
+                writer.closeBlock("}");
+                writer.write("gen.writeEndArray();");
+            }
+            case MAP -> {
+                String entry = "entry" + depth;
+                MemberShape valueMember = ((MapShape) shape).getValue();
+                writer.write("gen.writeStartObject();");
+                writer.openBlock("for (var $L : $L.entrySet()) {", entry, expression);
+                writer.write("gen.writeFieldName($L.getKey());", entry);
+                writeValue(writer, valueMember, entry + ".getValue()", depth + 1);
+                writer.closeBlock("}");
+                writer.write("gen.writeEndObject();");
+            }
+            default -> throw new IllegalStateException("Unsupported target " + target);
+        }
+    }
+
+    /**
+     * Names the {@code JsonTimestamps} method for the @timestampFormat of {@code member} or its
+     * target, which like restJson1 bodies defaults to epoch-seconds.
+     */
+    private String timestampWriter(MemberShape member) {
+        TimestampFormatTrait.Format format = member.getMemberTrait(model, TimestampFormatTrait.class)
+                .map(TimestampFormatTrait::getFormat)
+                .orElse(TimestampFormatTrait.Format.EPOCH_SECONDS);
+        return switch (format) {
+            case DATE_TIME -> "DateTime";
+            case HTTP_DATE -> "HttpDate";
+            default -> "EpochSeconds";
+        };
+    }
+
+    /**
+     * Maps a member target to the Java type of its record component, or empty if the target
+     * cannot be written without a codec (blobs, documents).
+     */
+    private Optional<String> javaType(ShapeId target, Imports imports) {
+        Shape shape = model.expectShape(target);
+        return switch (shape.getType()) {
+            case STRING, ENUM -> Optional.of("String");
+            case BOOLEAN -> Optional.of("Boolean");
+            case BYTE -> Optional.of("Byte");
+            case SHORT -> Optional.of("Short");
+            case INTEGER, INT_ENUM -> Optional.of("Integer");
+            case LONG -> Optional.of("Long");
+            case FLOAT -> Optional.of("Float");
+            case DOUBLE -> Optional.of("Double");
+            case BIG_DECIMAL -> Optional.of(imports.add("java.math.BigDecimal"));
+            case BIG_INTEGER -> Optional.of(imports.add("java.math.BigInteger"));
+            case TIMESTAMP -> Optional.of(imports.add("java.time.Instant"));
+            case STRUCTURE, UNION -> Optional.of(className(target));
+            case LIST, SET -> javaType(((ListShape) shape).getMember().getTarget(), imports)
+                    .map(item -> imports.add("java.util.List") + "<" + item + ">");
+            case MAP -> javaType(((MapShape) shape).getValue().getTarget(), imports)
+                    .map(value -> imports.add("java.util.Map") + "<String, " + value + ">");
+            default -> Optional.empty();
+        };
+    }
+
+    private SimpleCodeWriter header(Set<String> imports) {
+        SimpleCodeWriter writer = new SimpleCodeWriter();
+        writer.write("package $L;", packageName);
+        writer.write("");
+        for (String name : new TreeSet<>(imports)) {
+            writer.write("import $L;", name);
+        }
+        writer.write("");
+        return writer;
+    }
+
+    private static String className(ShapeId id) {
+        return id.getName() + SUFFIX;
+    }
+
+    private static String fieldName(MemberShape member) {
+        String name = member.getMemberName();
+        return RESERVED_WORDS.contains(name) ? name + "_" : name;
+    }
+
+    private static String variantName(MemberShape member) {
+        String name = member.getMemberName();
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String constantName(MemberShape member) {
+        return CaseUtils.toSnakeCase(member.getMemberName()).toUpperCase();
+    }
+
+    private static String jsonName(MemberShape member) {
+        return member.getTrait(JsonNameTrait.class).map(JsonNameTrait::getValue).orElse(member.getMemberName());
+    }
+
+    /**
+     * Renders {@code text} as code in a Javadoc comment: in {@code {@code}} when it keeps the tag's
+     * braces balanced and the comment open, HTML-escaped in {@code <code>} otherwise.
+     */
+    private static String javadocCode(String text) {
+        int depth = 0;
+        for (int i = 0; i < text.length() && depth >= 0; i++) {
+            char c = text.charAt(i);
+            depth += c == '{' ? 1 : c == '}' ? -1 : 0;
+        }
+        if (depth == 0 && !text.contains("*/")) {
+            return "{@code " + text + "}";
+        }
+        return "<code>" + text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+                .replace("{", "&#123;").replace("}", "&#125;").replace("@", "&#64;").replace("*/", "*&#47;")
+                + "</code>";
+    }
+
+    private record Component(MemberShape member, String name, String type) {
+    }
+
+    private static final class Imports {
+
+        private final Set<String> names = new TreeSet<>();
+
+        String add(String qualifiedName) {
+            names.add(qualifiedName);
+            return qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+        }
+
+        void remove(String qualifiedName) {
+            names.remove(qualifiedName);
+        }
+
+        Set<String> names() {
+            return names;
+        }
+    }
+}
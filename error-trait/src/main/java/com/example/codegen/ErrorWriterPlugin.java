@@ -0,0 +1,78 @@
+package com.example.codegen;
+
+import software.amazon.smithy.build.FileManifest;
+import software.amazon.smithy.build.PluginContext;
+import software.amazon.smithy.build.SmithyBuildPlugin;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.loader.Prelude;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.ErrorTrait;
+import software.amazon.smithy.model.traits.MixinTrait;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * Smithy build plugin that generates a JSON writer for every @error structure of the model.
+ *
+ * Each writer is a record of the error's non-constant members that writes itself straight into a
+ * Jackson {@code JsonGenerator}: member names and @const values are compiled in as pre-encoded
+ * literals, so no reflection or intermediate map is involved. Its static {@code write} method
+ * takes the member values as arguments, for callers that hold them in their own types and would
+ * otherwise create a writer per call. Nested structures, unions, lists and maps reached from an
+ * error get writers too. A union whose members are all structures with a @const member, like the
+ * validation errors told apart by their {@code code}, is written flat as the member itself, which
+ * is error-spring's wire format; other unions are written Smithy-style as an object keyed by the
+ * member name. Timestamps are written in their @timestampFormat, as in
+ * restJson1 bodies epoch-seconds by default. The generated code only needs jackson-core.
+ *
+ * Settings:
+ * <ul>
+ *   <li>{@code package}: Java package of the generated writers, defaults to
+ *       {@value #DEFAULT_PACKAGE}.</li>
+ *   <li>{@code namespace}: only generate writers for errors in this Smithy namespace.</li>
+ * </ul>
+ */
+public final class ErrorWriterPlugin implements SmithyBuildPlugin {
+
+    static final String NAME = "error-writers";
+    static final String DEFAULT_PACKAGE = "com.example.errors.json";
+
+    private static final Logger LOGGER = Logger.getLogger(ErrorWriterPlugin.class.getName());
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void execute(PluginContext context) {
+        Model model = context.getModel();
+        ObjectNode settings = context.getSettings();
+        String packageName = settings.getStringMemberOrDefault("package", DEFAULT_PACKAGE);
+        Optional<String> namespace = settings.getStringMember("namespace").map(StringNode::getValue);
+
+        List<StructureShape> errors = model.getStructureShapes().stream()
+                .filter(shape -> shape.hasTrait(ErrorTrait.class))
+                .filter(shape -> !shape.hasTrait(MixinTrait.class))
+                .filter(shape -> !Prelude.isPreludeShape(shape))
+                .filter(shape -> namespace.map(shape.getId().getNamespace()::equals).orElse(true))
+                .sorted(Comparator.comparing(StructureShape::getId))
+                .toList();
+
+        LOGGER.fine("Generating JSON writers for " + errors.size() + " error shapes");
+
+        Map<String, String> sources = new ErrorWriterGenerator(model, packageName).generate(errors);
+        FileManifest manifest = context.getFileManifest();
+        Path packageDir = Path.of(packageName.replace('.', '/'));
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            manifest.writeFile(packageDir.resolve(source.getKey() + ".java"), source.getValue());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.codegen;
+
+import software.amazon.smithy.build.PluginContext;
+import software.amazon.smithy.build.SmithyBuildPlugin;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.utils.CaseUtils;
+import software.amazon.smithy.utils.SimpleCodeWriter;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Smithy build plugin that generates a Java enum of the operations of a service, so per-operation
+ * metrics such as error-spring's {@code ErrorLatencies} follow the model instead of a hand-written
+ * copy. Constants are the operation names in upper snake case, in shape ID order, and carry the
+ * operation's shape name.
+ *
+ * Settings:
+ * <ul>
+ *   <li>{@code service}: shape ID of the service, required.</li>
+ *   <li>{@code package}: Java package of the enum, defaults to {@value #DEFAULT_PACKAGE}.</li>
+ *   <li>{@code className}: simple name of the enum, defaults to {@value #DEFAULT_CLASS_NAME}.</li>
+ * </ul>
+ */
+public final class ServiceOperationPlugin implements SmithyBuildPlugin {
+
+    static final String NAME = "service-operations";
+    static final String DEFAULT_PACKAGE = "com.example.service";
+    static final String DEFAULT_CLASS_NAME = "ServiceOperation";
+
+    private static final Logger LOGGER = Logger.getLogger(ServiceOperationPlugin.class.getName());
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void execute(PluginContext context) {
+        Model model = context.getModel();
+        ObjectNode settings = context.getSettings();
+        ShapeId serviceId = ShapeId.from(settings.expectStringMember("service").getValue());
+        String packageName = settings.getStringMemberOrDefault("package", DEFAULT_PACKAGE);
+        String className = settings.getStringMemberOrDefault("className", DEFAULT_CLASS_NAME);
+        ServiceShape service = model.expectShape(serviceId, ServiceShape.class);
+
+        List<ShapeId> operations = TopDownIndex.of(model).getContainedOperations(service).stream()
+                .map(OperationShape::getId)
+                .sorted()
+                .toList();
+
+        LOGGER.fine("Generating " + className + " with " + operations.size() + " operations of " + serviceId);
+
+        context.getFileManifest().writeFile(
+                Path.of(packageName.replace('.', '/')).resolve(className + ".java"),
+                generate(packageName, className, serviceId, operations));
+    }
+
+    private static String generate(String packageName, String className, ShapeId serviceId,
+            List<ShapeId> operations) {
+        SimpleCodeWriter writer = new SimpleCodeWriter();
+        writer.write("package $L;", packageName);
+        writer.write("");
+        writer.write("/**");
+        writer.write(" * Operations of the Smithy {@code $L}.", serviceId);
+        writer.write(" *");
+        writer.write(" * Generated by the $L Smithy build plugin, do not edit.", NAME);
+        writer.write(" */");
+        writer.openBlock("public enum $L {", className);
+        writer.write("");
+        if (operations.isEmpty()) {
+            writer.write(";");
+        }
+        for (int i = 0; i < operations.size(); i++) {
+            String name = operations.get(i).getName();
+            writer.write("$L($S)$L", CaseUtils.toSnakeCase(name).toUpperCase(), name,
+                    i < operations.size() - 1 ? "," : ";");
+        }
+        writer.write("");
+        writer.write("private final String name;");
+        writer.write("");
+        writer.openBlock("$L(String name) {", className);
+        writer.write("this.name = name;");
+        writer.closeBlock("}");
+        writer.write("");
+        writer.write("/**");
+        writer.write(" * Shape name of the operation, e.g. {@code $L}.",
+                operations.isEmpty() ? "GetItem" : operations.get(0).getName());
+        writer.write(" */");
+        writer.openBlock("public String getName() {");
+        writer.write("return name;");
+        writer.closeBlock("}");
+        writer.write("");
+        writer.write("@Override");
+        writer.openBlock("public String toString() {");
+        writer.write("return name;");
+        writer.closeBlock("}");
+        writer.closeBlock("}");
+        return writer.toString();
+    }
+}
@@ -1,18 +1,19 @@
 package com.example.openapi;
 
-import com.example.traits.ConstTrait;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
-import software.amazon.smithy.model.shapes.MemberShape;
-import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.node.StringNode;
 import software.amazon.smithy.model.traits.Trait;
 import software.amazon.smithy.openapi.fromsmithy.Context;
 import software.amazon.smithy.openapi.fromsmithy.OpenApiMapper;
 import software.amazon.smithy.openapi.model.OpenApi;
 
-import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
 
 /**
@@ -25,6 +26,9 @@ public final class ConstMapper implements OpenApiMapper {
 
     private static final Logger LOGGER = Logger.getLogger(ConstMapper.class.getName());
 
+    // Common suffixes added by Smithy's OpenAPI conversion
+    private static final List<String> SCHEMA_SUFFIXES = List.of("ResponseContent", "RequestContent");
+
     @Override
     public byte getOrder() {
         // Run early to add const before other mappers process the schema
@@ -35,89 +39,108 @@ public final class ConstMapper implements OpenApiMapper {
     public ObjectNode updateNode(Context<? extends Trait> context,
                                  OpenApi openapi,
                                  ObjectNode node) {
-        Model model = context.getModel();
-
-        // Collect all member shapes with @const trait and their values
-        Map<String, Node> constMembers = new HashMap<>();
-        for (StructureShape structure : model.getStructureShapes()) {
-            for (MemberShape member : structure.getAllMembers().values()) {
-                member.getTrait(ConstTrait.class).ifPresent(constTrait -> {
-                    String key = structure.getId().getName() + "." + member.getMemberName();
-                    constMembers.put(key, constTrait.getValue());
-                    LOGGER.fine("Found @const member: " + key + " = " + constTrait.getValue());
-                });
-            }
-        }
+        return updateSchemas(context.getModel(), node);
+    }
+
+    /**
+     * Adds "const" to the component schemas of {@code node} for every @const member in
+     * {@code model}, returning {@code node} itself when nothing changes.
+     */
+    ObjectNode updateSchemas(Model model, ObjectNode node) {
+        // All member shapes with @const trait and their values, grouped by structure name
+        Map<String, Map<String, Node>> constMembers = ErrorShapeIndex.of(model).getConstValuesByStructureName();
 
         if (constMembers.isEmpty()) {
             return node;
         }
 
-        // Process components/schemas to add const for @const members
-        ObjectNode components = node.getObjectMember("components").orElse(ObjectNode.builder().build());
-        ObjectNode schemas = components.getObjectMember("schemas").orElse(ObjectNode.builder().build());
+        ObjectNode components = node.getObjectMember("components").orElse(null);
+        ObjectNode schemas = components == null ? null : components.getObjectMember("schemas").orElse(null);
+        if (schemas == null) {
+            return node;
+        }
 
-        ObjectNode.Builder updatedSchemas = ObjectNode.builder();
-        for (Map.Entry<String, Node> schemaEntry : schemas.getStringMap().entrySet()) {
-            String schemaName = schemaEntry.getKey();
-            ObjectNode schema = schemaEntry.getValue().expectObjectNode();
+        // Only schemas named after a structure with @const members, directly or through one of the
+        // suffixes Smithy adds to synthesized schemas, can change. Every other schema is shared as is.
+        Set<String> candidateSchemas = new LinkedHashSet<>();
+        for (String structureName : constMembers.keySet()) {
+            candidateSchemas.add(structureName);
+            for (String suffix : SCHEMA_SUFFIXES) {
+                candidateSchemas.add(structureName + suffix);
+            }
+        }
 
-            // Process properties of this schema
-            schema = processSchemaProperties(schemaName, schema, constMembers);
+        ObjectNode.Builder updatedSchemas = null;
+        for (String schemaName : candidateSchemas) {
+            Optional<ObjectNode> schema = schemas.getObjectMember(schemaName);
+            if (schema.isEmpty()) {
+                continue;
+            }
 
-            updatedSchemas.withMember(schemaName, schema);
+            ObjectNode updatedSchema = processSchemaProperties(schemaName, schema.get(), constMembers);
+            if (updatedSchema != schema.get()) {
+                if (updatedSchemas == null) {
+                    updatedSchemas = schemas.toBuilder();
+                }
+                updatedSchemas.withMember(schemaName, updatedSchema);
+            }
+        }
+
+        if (updatedSchemas == null) {
+            return node;
         }
 
         components = components.withMember("schemas", updatedSchemas.build());
         return node.withMember("components", components);
     }
 
-    private ObjectNode processSchemaProperties(String schemaName, ObjectNode schema, Map<String, Node> constMembers) {
+    /**
+     * Returns the schema with "const" added to every property backed by a @const member, or the
+     * same instance if no property is.
+     */
+    private ObjectNode processSchemaProperties(String schemaName, ObjectNode schema,
+                                              Map<String, Map<String, Node>> constMembers) {
         ObjectNode properties = schema.getObjectMember("properties").orElse(null);
         if (properties == null) {
             return schema;
         }
 
-        // Get the base schema name (strip common suffixes like ResponseContent)
-        String baseSchemaName = getBaseSchemaName(schemaName);
-
-        ObjectNode.Builder updatedProperties = ObjectNode.builder();
-        boolean hasChanges = false;
+        // Try both the exact schema name and the base schema name (strip common suffixes like
+        // ResponseContent)
+        Map<String, Node> schemaConsts = constMembers.getOrDefault(schemaName, Map.of());
+        Map<String, Node> baseSchemaConsts = constMembers.getOrDefault(getBaseSchemaName(schemaName), Map.of());
 
-        for (Map.Entry<String, Node> propEntry : properties.getStringMap().entrySet()) {
-            String propName = propEntry.getKey();
-            ObjectNode propSchema = propEntry.getValue().expectObjectNode();
+        ObjectNode.Builder updatedProperties = null;
 
-            // Try both the exact schema name and the base schema name
-            String memberKey = schemaName + "." + propName;
-            String baseMemberKey = baseSchemaName + "." + propName;
+        for (Map.Entry<StringNode, Node> propEntry : properties.getMembers().entrySet()) {
+            String propName = propEntry.getKey().getValue();
 
-            Node constValue = constMembers.get(memberKey);
+            Node constValue = schemaConsts.get(propName);
             if (constValue == null) {
-                constValue = constMembers.get(baseMemberKey);
+                constValue = baseSchemaConsts.get(propName);
             }
 
             if (constValue != null) {
                 // Add const value from the trait
+                ObjectNode propSchema = propEntry.getValue().expectObjectNode();
                 ObjectNode.Builder updatedProp = ObjectNode.builder();
-
-                for (Map.Entry<String, Node> field : propSchema.getStringMap().entrySet()) {
+                for (Map.Entry<StringNode, Node> field : propSchema.getMembers().entrySet()) {
                     // Remove default if present since we're using const
-                    if (!"default".equals(field.getKey())) {
+                    if (!"default".equals(field.getKey().getValue())) {
                         updatedProp.withMember(field.getKey(), field.getValue());
                     }
                 }
                 updatedProp.withMember("const", constValue);
 
-                LOGGER.fine("Added const for " + memberKey + ": " + constValue);
+                LOGGER.fine("Added const for " + schemaName + "." + propName + ": " + constValue);
+                if (updatedProperties == null) {
+                    updatedProperties = properties.toBuilder();
+                }
                 updatedProperties.withMember(propName, updatedProp.build());
-                hasChanges = true;
-            } else {
-                updatedProperties.withMember(propName, propSchema);
             }
         }
 
-        if (hasChanges) {
+        if (updatedProperties != null) {
             return schema.withMember("properties", updatedProperties.build());
         }
         return schema;
@@ -129,10 +152,7 @@ public final class ConstMapper implements OpenApiMapper {
      * "ResponseContent" for response bodies.
      */
     private String getBaseSchemaName(String schemaName) {
-        // Common suffixes added by Smithy's OpenAPI conversion
-        String[] suffixes = {"ResponseContent", "RequestContent"};
-
-        for (String suffix : suffixes) {
+        for (String suffix : SCHEMA_SUFFIXES) {
             if (schemaName.endsWith(suffix)) {
                 return schemaName.substring(0, schemaName.length() - suffix.length());
             }
@@ -0,0 +1,191 @@
+package com.example.openapi;
+
+import com.example.traits.ConstTrait;
+import com.example.traits.MemberExampleTrait;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.KnowledgeIndex;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.ErrorTrait;
+import software.amazon.smithy.model.traits.HttpErrorTrait;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Index of the error-related facts the OpenAPI mappers need from a model: @const and
+ * @memberExample values, error structures and their HTTP status codes, and operation errors
+ * resolved through synthesized error unions.
+ *
+ * Computed in a single pass over the model and cached on it, so every mapper registered by
+ * {@link ErrorExampleExtension} shares the same analysis instead of re-traversing the model.
+ */
+public final class ErrorShapeIndex implements KnowledgeIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(ErrorShapeIndex.class.getName());
+
+    private final Map<String, Map<String, Node>> constValuesByStructureName = new HashMap<>();
+    private final Map<ShapeId, Node> constValues = new HashMap<>();
+    private final Map<ShapeId, Node> exampleValues = new HashMap<>();
+    private final Set<StructureShape> errorShapes = new LinkedHashSet<>();
+    private final Map<ShapeId, Integer> statusCodes = new HashMap<>();
+    private final Map<ShapeId, Map<Integer, Set<ShapeId>>> errorsByStatusCode = new HashMap<>();
+
+    public ErrorShapeIndex(Model model) {
+        for (StructureShape structure : model.getStructureShapes()) {
+            for (MemberShape member : structure.getAllMembers().values()) {
+                member.getTrait(ConstTrait.class).ifPresent(constTrait -> {
+                    constValues.put(member.getId(), constTrait.getValue());
+                    constValuesByStructureName
+                            .computeIfAbsent(structure.getId().getName(), k -> new HashMap<>())
+                            .put(member.getMemberName(), constTrait.getValue());
+                    LOGGER.fine("Found @const member: " + member.getId() + " = " + constTrait.getValue());
+                });
+                member.getTrait(MemberExampleTrait.class)
+                        .ifPresent(exampleTrait -> exampleValues.put(member.getId(), exampleTrait.getValue()));
+            }
+
+            if (structure.hasTrait(ErrorTrait.class)) {
+                errorShapes.add(structure);
+                statusCodes.put(structure.getId(), resolveStatusCode(structure));
+            }
+        }
+
+        for (OperationShape operation : model.getOperationShapes()) {
+            for (ShapeId errorId : operation.getErrors()) {
+                if (!errorsByStatusCode.containsKey(errorId)) {
+                    errorsByStatusCode.put(errorId, groupByStatusCode(model, errorId));
+                }
+            }
+        }
+    }
+
+    public static ErrorShapeIndex of(Model model) {
+        return model.getKnowledge(ErrorShapeIndex.class, ErrorShapeIndex::new);
+    }
+
+    /**
+     * Returns @const values keyed by structure name and then member name, matching how the
+     * OpenAPI converter names component schemas and their properties.
+     */
+    public Map<String, Map<String, Node>> getConstValuesByStructureName() {
+        return Collections.unmodifiableMap(constValuesByStructureName);
+    }
+
+    public Optional<Node> getConstValue(MemberShape member) {
+        return Optional.ofNullable(constValues.get(member.getId()));
+    }
+
+    public Optional<Node> getExampleValue(MemberShape member) {
+        return Optional.ofNullable(exampleValues.get(member.getId()));
+    }
+
+    /**
+     * Returns every structure marked with @error.
+     */
+    public Set<StructureShape> getErrorShapes() {
+        return Collections.unmodifiableSet(errorShapes);
+    }
+
+    /**
+     * Returns the HTTP status code of an error structure, from @httpError or derived from
+     * whether it is a client or server error.
+     */
+    public Optional<Integer> getStatusCode(ShapeId errorId) {
+        return Optional.ofNullable(statusCodes.get(errorId));
+    }
+
+    /**
+     * Returns the error shapes an operation error stands for, grouped by status code. Regular
+     * error structures map to themselves; synthesized error union wrappers and unions are resolved
+     * to their member errors.
+     */
+    public Map<Integer, Set<ShapeId>> getErrorsByStatusCode(ShapeId operationErrorId) {
+        return errorsByStatusCode.getOrDefault(operationErrorId, Collections.emptyMap());
+    }
+
+    private Map<Integer, Set<ShapeId>> groupByStatusCode(Model model, ShapeId errorId) {
+        Map<Integer, Set<ShapeId>> grouped = new HashMap<>();
+        Optional<Shape> shape = model.getShape(errorId);
+        if (shape.isEmpty()) {
+            return grouped;
+        }
+        LOGGER.fine("  Error shape type for " + errorId.getName() + ": " + shape.get().getType());
+
+        if (shape.get().isStructureShape()) {
+            StructureShape errorShape = shape.get().asStructureShape().get();
+
+            // Check if this is a synthesized error union wrapper (has single "errorUnion" member)
+            Optional<MemberShape> errorUnionMember = errorShape.getMember("errorUnion");
+            if (errorUnionMember.isPresent()) {
+                // This is a synthesized error wrapper - resolve the union members
+                Shape unionTarget = model.expectShape(errorUnionMember.get().getTarget());
+                if (unionTarget.isUnionShape()) {
+                    int statusCode = statusCode(errorShape);
+                    LOGGER.fine("  Found synthesized error wrapper: " + errorId.getName() + " with status " + statusCode);
+
+                    for (MemberShape member : unionTarget.asUnionShape().get().getAllMembers().values()) {
+                        ShapeId targetId = member.getTarget();
+                        LOGGER.fine("    Union member: " + targetId.getName());
+                        // Add the original error shape, which should have examples
+                        grouped.computeIfAbsent(statusCode, k -> new HashSet<>()).add(targetId);
+                    }
+                }
+            } else {
+                // Regular error structure
+                int statusCode = statusCode(errorShape);
+
+                LOGGER.fine("  Error " + errorId.getName() + " has status code " + statusCode);
+                grouped.computeIfAbsent(statusCode, k -> new HashSet<>()).add(errorId);
+            }
+        } else if (shape.get().isUnionShape()) {
+            // Synthesized union error - resolve its members
+            LOGGER.fine("  Found union error: " + errorId.getName());
+            for (MemberShape member : shape.get().asUnionShape().get().getAllMembers().values()) {
+                ShapeId targetId = member.getTarget();
+                Optional<StructureShape> targetShape = model.getShape(targetId).flatMap(Shape::asStructureShape);
+                if (targetShape.isPresent() && targetShape.get().hasTrait(ErrorTrait.class)) {
+                    int statusCode = statusCode(targetShape.get());
+                    LOGGER.fine("    Union member " + targetId.getName() + " has status code " + statusCode);
+                    grouped.computeIfAbsent(statusCode, k -> new HashSet<>()).add(targetId);
+                }
+            }
+        }
+
+        return grouped;
+    }
+
+    private int statusCode(StructureShape errorShape) {
+        Integer statusCode = statusCodes.get(errorShape.getId());
+        return statusCode != null ? statusCode : resolveStatusCode(errorShape);
+    }
+
+    private static int resolveStatusCode(StructureShape errorShape) {
+        return errorShape.getTrait(HttpErrorTrait.class)
+                .map(HttpErrorTrait::getCode)
+                .orElseGet(() -> getDefaultStatusCode(errorShape));
+    }
+
+    private static int getDefaultStatusCode(StructureShape errorShape) {
+        // Default status codes based on error type
+        Optional<ErrorTrait> errorTrait = errorShape.getTrait(ErrorTrait.class);
+        if (errorTrait.isPresent()) {
+            if (errorTrait.get().isClientError()) {
+                return 400;
+            } else if (errorTrait.get().isServerError()) {
+                return 500;
+            }
+        }
+        return 500;
+    }
+}
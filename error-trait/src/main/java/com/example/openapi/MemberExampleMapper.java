@@ -1,22 +1,13 @@
 package com.example.openapi;
 
-import com.example.traits.ConstTrait;
-import com.example.traits.MemberExampleTrait;
 import software.amazon.smithy.model.Model;
-import software.amazon.smithy.model.node.ArrayNode;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
-import software.amazon.smithy.model.shapes.ListShape;
-import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.OperationShape;
 import software.amazon.smithy.model.shapes.ServiceShape;
-import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.shapes.StructureShape;
 import software.amazon.smithy.model.shapes.UnionShape;
-import software.amazon.smithy.model.traits.ErrorTrait;
-import software.amazon.smithy.model.traits.HttpErrorTrait;
-import software.amazon.smithy.model.traits.HttpTrait;
 import software.amazon.smithy.model.traits.Trait;
 import software.amazon.smithy.openapi.fromsmithy.Context;
 import software.amazon.smithy.openapi.fromsmithy.OpenApiMapper;
@@ -37,6 +28,12 @@ public final class MemberExampleMapper implements OpenApiMapper {
 
     private static final Logger LOGGER = Logger.getLogger(MemberExampleMapper.class.getName());
 
+    /**
+     * OpenAPI plugin setting that limits how deep nested structures are expanded into examples.
+     */
+    static final String MAX_DEPTH_SETTING = "memberExampleMaxDepth";
+    static final int DEFAULT_MAX_DEPTH = 32;
+
     @Override
     public byte getOrder() {
         // Run after ConstMapper (50) and before RemoveUnusedComponents (64)
@@ -47,17 +44,22 @@ public final class MemberExampleMapper implements OpenApiMapper {
     public ObjectNode updateNode(Context<? extends Trait> context,
                                  OpenApi openapi,
                                  ObjectNode node) {
-        Model model = context.getModel();
-        ServiceShape service = context.getService();
+        return updateExamples(context.getModel(), context.getService(), getMaxDepth(context), node);
+    }
 
+    /**
+     * Adds the error examples of {@code model} to {@code node} and references them from the
+     * error responses of the operations of {@code service}.
+     */
+    ObjectNode updateExamples(Model model, ServiceShape service, int maxDepth, ObjectNode node) {
         // Collect all error shapes and build examples from their members
+        ErrorShapeIndex errorIndex = ErrorShapeIndex.of(model);
+        MemberExampleSynthesizer synthesizer = new MemberExampleSynthesizer(model, errorIndex, maxDepth);
         Map<ShapeId, ObjectNode> errorExamples = new HashMap<>();
-        for (StructureShape shape : model.getStructureShapes()) {
-            if (shape.hasTrait(ErrorTrait.class)) {
-                Optional<Node> example = buildExampleFromMembers(model, shape);
-                if (example.isPresent()) {
-                    errorExamples.put(shape.getId(), example.get().expectObjectNode());
-                }
+        for (StructureShape shape : errorIndex.getErrorShapes()) {
+            Optional<Node> example = synthesizer.buildExampleFromMembers(shape);
+            if (example.isPresent()) {
+                errorExamples.put(shape.getId(), example.get().expectObjectNode());
             }
         }
 
@@ -92,67 +94,25 @@ public final class MemberExampleMapper implements OpenApiMapper {
         node = node.withMember("components", components);
 
         // Now update paths to reference the examples
-        node = updatePathsWithExampleReferences(context, model, service, node, errorExamples);
+        OperationIndex operationIndex = OperationIndex.of(model, service);
+        node = updatePathsWithExampleReferences(operationIndex, node, errorExamples);
 
         return node;
     }
 
     /**
-     * Recursively builds an example object from @const and @memberExample traits on structure members.
+     * Reads the maximum example nesting depth from the {@value #MAX_DEPTH_SETTING} setting of the
+     * OpenAPI plugin configuration.
      */
-    private Optional<Node> buildExampleFromMembers(Model model, StructureShape shape) {
-        ObjectNode.Builder builder = ObjectNode.builder();
-        boolean hasAnyExample = false;
-
-        for (MemberShape member : shape.getAllMembers().values()) {
-            String memberName = member.getMemberName();
-            Shape targetShape = model.expectShape(member.getTarget());
-
-            // Priority: @const > @memberExample > recurse for structures/lists
-            if (member.hasTrait(ConstTrait.class)) {
-                builder.withMember(memberName, member.expectTrait(ConstTrait.class).getValue());
-                hasAnyExample = true;
-            } else if (member.hasTrait(MemberExampleTrait.class)) {
-                builder.withMember(memberName, member.expectTrait(MemberExampleTrait.class).getValue());
-                hasAnyExample = true;
-            } else if (targetShape.isStructureShape()) {
-                // Recurse into nested structure
-                Optional<Node> nested = buildExampleFromMembers(model, targetShape.asStructureShape().get());
-                if (nested.isPresent()) {
-                    builder.withMember(memberName, nested.get());
-                    hasAnyExample = true;
-                }
-            } else if (targetShape.isListShape()) {
-                // Handle lists - build example for member type
-                Optional<Node> listExample = buildListExample(model, targetShape.asListShape().get());
-                if (listExample.isPresent()) {
-                    builder.withMember(memberName, listExample.get());
-                    hasAnyExample = true;
-                }
-            }
-        }
-
-        return hasAnyExample ? Optional.of(builder.build()) : Optional.empty();
-    }
-
-    /**
-     * Builds an example array for a list shape by creating an example of its member type.
-     */
-    private Optional<Node> buildListExample(Model model, ListShape listShape) {
-        Shape memberTarget = model.expectShape(listShape.getMember().getTarget());
-        if (memberTarget.isStructureShape()) {
-            Optional<Node> itemExample = buildExampleFromMembers(model, memberTarget.asStructureShape().get());
-            if (itemExample.isPresent()) {
-                return Optional.of(ArrayNode.fromNodes(itemExample.get()));
-            }
-        }
-        return Optional.empty();
+    private int getMaxDepth(Context<? extends Trait> context) {
+        return context.getConfig().getExtensions()
+                .getNumberMember(MAX_DEPTH_SETTING)
+                .map(number -> number.getValue().intValue())
+                .orElse(DEFAULT_MAX_DEPTH);
     }
 
     private ObjectNode updatePathsWithExampleReferences(
-            Context<? extends Trait> context,
-            Model model,
-            ServiceShape service,
+            OperationIndex operationIndex,
             ObjectNode node,
             Map<ShapeId, ObjectNode> errorExamples) {
 
@@ -169,10 +129,11 @@ public final class MemberExampleMapper implements OpenApiMapper {
                 ObjectNode operation = methodEntry.getValue().expectObjectNode();
 
                 // Find which Smithy operation this corresponds to
-                Optional<OperationShape> smithyOperation = findOperationForPath(context, model, service, path, method);
+                Optional<OperationShape> smithyOperation = operationIndex.findOperation(path, method);
 
                 if (smithyOperation.isPresent()) {
-                    operation = updateOperationResponses(model, operation, smithyOperation.get(), errorExamples);
+                    operation = updateOperationResponses(operation,
+                            operationIndex.errorsByStatusCode(smithyOperation.get()), errorExamples);
                 }
 
                 updatedPathItem.withMember(method, operation);
@@ -184,128 +145,18 @@ public final class MemberExampleMapper implements OpenApiMapper {
         return node.withMember("paths", updatedPaths.build());
     }
 
-    private Optional<OperationShape> findOperationForPath(
-            Context<? extends Trait> context,
-            Model model,
-            ServiceShape service,
-            String path,
-            String method) {
-
-        // Get all operations from the service
-        for (ShapeId operationId : service.getAllOperations()) {
-            Optional<OperationShape> opShape = model.getShape(operationId)
-                    .flatMap(Shape::asOperationShape);
-
-            if (opShape.isPresent()) {
-                OperationShape operation = opShape.get();
-
-                // Check if this operation matches the path and method
-                Optional<HttpTrait> httpTrait = operation.getTrait(HttpTrait.class);
-
-                if (httpTrait.isPresent()) {
-                    String opMethod = httpTrait.get().getMethod().toLowerCase();
-                    String opUri = httpTrait.get().getUri().toString();
-
-                    // Convert Smithy URI pattern to OpenAPI path format for comparison
-                    String normalizedOpUri = normalizeUri(opUri);
-                    String normalizedPath = normalizePath(path);
-
-                    if (opMethod.equals(method.toLowerCase()) && normalizedOpUri.equals(normalizedPath)) {
-                        return Optional.of(operation);
-                    }
-                }
-            }
-        }
-
-        return Optional.empty();
-    }
-
-    private String normalizeUri(String uri) {
-        // Remove query string parameters for comparison
-        int queryIndex = uri.indexOf('?');
-        if (queryIndex >= 0) {
-            uri = uri.substring(0, queryIndex);
-        }
-        return uri;
-    }
-
-    private String normalizePath(String path) {
-        return path;
-    }
-
     private ObjectNode updateOperationResponses(
-            Model model,
             ObjectNode operation,
-            OperationShape smithyOperation,
+            Map<Integer, Set<ShapeId>> errorsByStatusCode,
             Map<ShapeId, ObjectNode> errorExamples) {
 
-        // Get operation errors
-        Set<ShapeId> operationErrors = new HashSet<>(smithyOperation.getErrors());
-
-        LOGGER.fine("Processing operation: " + smithyOperation.getId().getName() + " with errors: " + operationErrors);
-
-        if (operationErrors.isEmpty()) {
+        if (errorsByStatusCode.isEmpty()) {
             return operation;
         }
 
         ObjectNode responses = operation.getObjectMember("responses").orElse(ObjectNode.builder().build());
         ObjectNode.Builder updatedResponses = ObjectNode.builder();
 
-        // Group errors by status code (only errors declared on this operation)
-        // Handle synthesized union errors by resolving their members
-        Map<Integer, Set<ShapeId>> errorsByStatusCode = new HashMap<>();
-        for (ShapeId errorId : operationErrors) {
-            Shape shape = model.expectShape(errorId);
-            LOGGER.fine("  Error shape type for " + errorId.getName() + ": " + shape.getType());
-
-            if (shape.isStructureShape()) {
-                StructureShape errorShape = shape.asStructureShape().get();
-
-                // Check if this is a synthesized error union wrapper (has single "errorUnion" member)
-                Optional<MemberShape> errorUnionMember = errorShape.getMember("errorUnion");
-                if (errorUnionMember.isPresent()) {
-                    // This is a synthesized error wrapper - resolve the union members
-                    Shape unionTarget = model.expectShape(errorUnionMember.get().getTarget());
-                    if (unionTarget.isUnionShape()) {
-                        int statusCode = errorShape.getTrait(HttpErrorTrait.class)
-                                .map(HttpErrorTrait::getCode)
-                                .orElse(getDefaultStatusCode(errorShape));
-                        LOGGER.fine("  Found synthesized error wrapper: " + errorId.getName() + " with status " + statusCode);
-
-                        for (MemberShape member : unionTarget.asUnionShape().get().getAllMembers().values()) {
-                            ShapeId targetId = member.getTarget();
-                            LOGGER.fine("    Union member: " + targetId.getName());
-                            // Add the original error shape, which should have examples
-                            errorsByStatusCode.computeIfAbsent(statusCode, k -> new HashSet<>()).add(targetId);
-                        }
-                    }
-                } else {
-                    // Regular error structure
-                    int statusCode = errorShape.getTrait(HttpErrorTrait.class)
-                            .map(HttpErrorTrait::getCode)
-                            .orElse(getDefaultStatusCode(errorShape));
-
-                    LOGGER.fine("  Error " + errorId.getName() + " has status code " + statusCode);
-                    errorsByStatusCode.computeIfAbsent(statusCode, k -> new HashSet<>()).add(errorId);
-                }
-            } else if (shape.isUnionShape()) {
-                // Synthesized union error - resolve its members
-                LOGGER.fine("  Found union error: " + errorId.getName());
-                for (MemberShape member : shape.asUnionShape().get().getAllMembers().values()) {
-                    ShapeId targetId = member.getTarget();
-                    Optional<StructureShape> targetShape = model.getShape(targetId).flatMap(Shape::asStructureShape);
-                    if (targetShape.isPresent() && targetShape.get().hasTrait(ErrorTrait.class)) {
-                        int statusCode = targetShape.get().getTrait(HttpErrorTrait.class)
-                                .map(HttpErrorTrait::getCode)
-                                .orElse(getDefaultStatusCode(targetShape.get()));
-                        LOGGER.fine("    Union member " + targetId.getName() + " has status code " + statusCode);
-                        errorsByStatusCode.computeIfAbsent(statusCode, k -> new HashSet<>()).add(targetId);
-                    }
-                }
-            }
-        }
-
-        LOGGER.fine("  errorsByStatusCode: " + errorsByStatusCode);
         LOGGER.fine("  errorExamples keys: " + errorExamples.keySet());
 
         for (Map.Entry<String, Node> responseEntry : responses.getStringMap().entrySet()) {
@@ -353,19 +204,6 @@ public final class MemberExampleMapper implements OpenApiMapper {
         return operation.withMember("responses", updatedResponses.build());
     }
 
-    private int getDefaultStatusCode(StructureShape errorShape) {
-        // Default status codes based on error type
-        Optional<ErrorTrait> errorTrait = errorShape.getTrait(ErrorTrait.class);
-        if (errorTrait.isPresent()) {
-            if (errorTrait.get().isClientError()) {
-                return 400;
-            } else if (errorTrait.get().isServerError()) {
-                return 500;
-            }
-        }
-        return 500;
-    }
-
     private ObjectNode updateResponseContent(ObjectNode response, ObjectNode examples) {
         ObjectNode content = response.getObjectMember("content").orElse(ObjectNode.builder().build());
         ObjectNode.Builder updatedContent = ObjectNode.builder();
@@ -0,0 +1,136 @@
+package com.example.openapi;
+
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.ListShape;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StructureShape;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Builds example nodes from @const and @memberExample traits on structure members, as collected by
+ * {@link ErrorShapeIndex}.
+ *
+ * One instance is used per conversion. The example synthesized for a structure is memoized by
+ * its {@link ShapeId}, so a shape referenced from many errors is only visited once. A structure
+ * that is already being built higher up the stack is skipped rather than recursed into, and
+ * nesting deeper than {@code maxDepth} is cut off. Examples truncated by either rule depend on
+ * where they were reached from and are therefore not memoized.
+ */
+final class MemberExampleSynthesizer {
+
+    private static final Logger LOGGER = Logger.getLogger(MemberExampleSynthesizer.class.getName());
+
+    private final Model model;
+    private final ErrorShapeIndex errorIndex;
+    private final int maxDepth;
+    private final Map<ShapeId, Optional<Node>> examples = new HashMap<>();
+    private final Set<ShapeId> inProgress = new HashSet<>();
+    private int depth;
+    private int truncations;
+
+    MemberExampleSynthesizer(Model model, ErrorShapeIndex errorIndex, int maxDepth) {
+        this.model = model;
+        this.errorIndex = errorIndex;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Builds an example object for a structure, or returns empty if none of its members,
+     * directly or through nested structures and lists, carries an example.
+     */
+    Optional<Node> buildExampleFromMembers(StructureShape shape) {
+        ShapeId shapeId = shape.getId();
+        Optional<Node> cached = examples.get(shapeId);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (inProgress.contains(shapeId)) {
+            LOGGER.fine("Skipping recursive reference to " + shapeId);
+            truncations++;
+            return Optional.empty();
+        }
+        if (depth >= maxDepth) {
+            LOGGER.fine("Example for " + shapeId + " exceeds max depth " + maxDepth);
+            truncations++;
+            return Optional.empty();
+        }
+
+        int truncationsBefore = truncations;
+        inProgress.add(shapeId);
+        depth++;
+        Optional<Node> example;
+        try {
+            example = buildMembers(shape);
+        } finally {
+            depth--;
+            inProgress.remove(shapeId);
+        }
+
+        if (truncations == truncationsBefore) {
+            examples.put(shapeId, example);
+        }
+        return example;
+    }
+
+    private Optional<Node> buildMembers(StructureShape shape) {
+        ObjectNode.Builder builder = ObjectNode.builder();
+        boolean hasAnyExample = false;
+
+        for (MemberShape member : shape.getAllMembers().values()) {
+            String memberName = member.getMemberName();
+
+            // Priority: @const > @memberExample > recurse for structures/lists
+            Optional<Node> value = errorIndex.getConstValue(member).or(() -> errorIndex.getExampleValue(member));
+            if (value.isPresent()) {
+                builder.withMember(memberName, value.get());
+                hasAnyExample = true;
+                continue;
+            }
+
+            Shape targetShape = model.expectShape(member.getTarget());
+            if (targetShape.isStructureShape()) {
+                // Recurse into nested structure
+                Optional<Node> nested = buildExampleFromMembers(targetShape.asStructureShape().get());
+                if (nested.isPresent()) {
+                    builder.withMember(memberName, nested.get());
+                    hasAnyExample = true;
+                }
+            } else if (targetShape.isListShape()) {
+                // Handle lists - build example for member type
+                Optional<Node> listExample = buildListExample(targetShape.asListShape().get());
+                if (listExample.isPresent()) {
+                    builder.withMember(memberName, listExample.get());
+                    hasAnyExample = true;
+                }
+            }
+        }
+
+        return hasAnyExample ? Optional.of(builder.build()) : Optional.empty();
+    }
+
+    /**
+     * Builds an example array for a list shape by creating an example of its member type.
+     */
+    private Optional<Node> buildListExample(ListShape listShape) {
+        Shape memberTarget = model.expectShape(listShape.getMember().getTarget());
+        if (memberTarget.isStructureShape()) {
+            Optional<Node> itemExample = buildExampleFromMembers(memberTarget.asStructureShape().get());
+            if (itemExample.isPresent()) {
+                return Optional.of(ArrayNode.fromNodes(itemExample.get()));
+            }
+        }
+        return Optional.empty();
+    }
+}
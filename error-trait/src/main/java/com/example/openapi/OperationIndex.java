@@ -0,0 +1,114 @@
+package com.example.openapi;
+
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.traits.HttpTrait;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Per-conversion index of the service's HTTP operations, keyed by lower-case method and
+ * normalized URI, together with each operation's errors grouped by status code.
+ *
+ * Built once per {@link MemberExampleMapper#updateNode} call so that resolving a path item
+ * is a map lookup instead of a scan over every operation of the service.
+ */
+final class OperationIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(OperationIndex.class.getName());
+
+    private final Map<String, OperationShape> operationsByRoute;
+    private final Map<ShapeId, Map<Integer, Set<ShapeId>>> errorsByOperation;
+
+    private OperationIndex(Map<String, OperationShape> operationsByRoute,
+                           Map<ShapeId, Map<Integer, Set<ShapeId>>> errorsByOperation) {
+        this.operationsByRoute = operationsByRoute;
+        this.errorsByOperation = errorsByOperation;
+    }
+
+    static OperationIndex of(Model model, ServiceShape service) {
+        Map<String, OperationShape> operationsByRoute = new HashMap<>();
+        Map<ShapeId, Map<Integer, Set<ShapeId>>> errorsByOperation = new HashMap<>();
+        ErrorShapeIndex errorIndex = ErrorShapeIndex.of(model);
+
+        for (ShapeId operationId : service.getAllOperations()) {
+            Optional<OperationShape> opShape = model.getShape(operationId)
+                    .flatMap(Shape::asOperationShape);
+            if (opShape.isEmpty()) {
+                continue;
+            }
+
+            OperationShape operation = opShape.get();
+            Optional<HttpTrait> httpTrait = operation.getTrait(HttpTrait.class);
+            if (httpTrait.isEmpty()) {
+                continue;
+            }
+
+            String route = routeKey(httpTrait.get().getMethod(),
+                    normalizeUri(httpTrait.get().getUri().toString()));
+            // Keep the first operation bound to a route, as the linear scan used to
+            operationsByRoute.putIfAbsent(route, operation);
+            errorsByOperation.put(operation.getId(), groupErrorsByStatusCode(errorIndex, operation));
+        }
+
+        return new OperationIndex(operationsByRoute, errorsByOperation);
+    }
+
+    /**
+     * Finds the operation bound to an OpenAPI path and method.
+     */
+    Optional<OperationShape> findOperation(String path, String method) {
+        return Optional.ofNullable(operationsByRoute.get(routeKey(method, normalizePath(path))));
+    }
+
+    /**
+     * Returns the errors declared on an operation grouped by HTTP status code, with synthesized
+     * error unions resolved to their member error shapes.
+     */
+    Map<Integer, Set<ShapeId>> errorsByStatusCode(OperationShape operation) {
+        return errorsByOperation.getOrDefault(operation.getId(), Collections.emptyMap());
+    }
+
+    private static Map<Integer, Set<ShapeId>> groupErrorsByStatusCode(ErrorShapeIndex errorIndex,
+                                                                      OperationShape operation) {
+        LOGGER.fine("Processing operation: " + operation.getId().getName() + " with errors: " + operation.getErrors());
+
+        // Group errors by status code (only errors declared on this operation), with synthesized
+        // union errors already resolved to their members by the index
+        Map<Integer, Set<ShapeId>> errorsByStatusCode = new HashMap<>();
+        for (ShapeId errorId : operation.getErrors()) {
+            errorIndex.getErrorsByStatusCode(errorId).forEach((statusCode, errorIds) ->
+                    errorsByStatusCode.computeIfAbsent(statusCode, k -> new HashSet<>()).addAll(errorIds));
+        }
+
+        LOGGER.fine("  errorsByStatusCode: " + errorsByStatusCode);
+        return errorsByStatusCode;
+    }
+
+    private static String routeKey(String method, String uri) {
+        return method.toLowerCase(Locale.ROOT) + ' ' + uri;
+    }
+
+    private static String normalizeUri(String uri) {
+        // Remove query string parameters for comparison
+        int queryIndex = uri.indexOf('?');
+        if (queryIndex >= 0) {
+            uri = uri.substring(0, queryIndex);
+        }
+        return uri;
+    }
+
+    private static String normalizePath(String path) {
+        return path;
+    }
+}
@@ -4,6 +4,7 @@ plugins {
 }
 
 val smithyVersion: String by project
+val springBootVersion = "4.0.3"
 
 // The smithy-base plugin creates a 'smithyBuild' configuration
 val smithyBuild by configurations.getting
@@ -12,10 +13,23 @@ tasks.named("compileJava") {
     dependsOn("smithyBuild")
 }
 
+// Package the error catalog at META-INF/error-catalog.bin, where ErrorCatalog.getDefault() reads it
+tasks.named<ProcessResources>("processResources") {
+    dependsOn("smithyBuild")
+    from(layout.buildDirectory.dir("smithyprojections/${project.name}/error-catalog/error-catalog")) {
+        into("META-INF")
+    }
+}
+
 sourceSets {
     main {
         java {
             srcDirs("model/")
+            // Operation enum generated from the service by the service-operations plugin
+            srcDir(layout.buildDirectory.dir("smithyprojections/${project.name}/service-operations/service-operations"))
+            // JSON writers generated from the errors by the error-writers plugin, which ErrorWriters
+            // registers with error-spring's ProblemDetailModule
+            srcDir(layout.buildDirectory.dir("smithyprojections/${project.name}/error-writers/error-writers"))
         }
     }
 }
@@ -24,8 +38,20 @@ dependencies {
     implementation("software.amazon.smithy:smithy-model:$smithyVersion")
     implementation("software.amazon.smithy:smithy-aws-traits:$smithyVersion")
     implementation(project(":error-trait"))
+    implementation(project(":error-spring"))
+    implementation("com.fasterxml.jackson.core:jackson-databind:2.17.0")
 
     smithyBuild(project(":error-trait"))
     smithyBuild("software.amazon.smithy:smithy-openapi:$smithyVersion")
     smithyBuild("software.amazon.smithy:smithy-aws-traits:$smithyVersion")
+
+    // Test dependencies
+    testImplementation("org.junit.jupiter:junit-jupiter:5.10.2")
+    testImplementation("org.assertj:assertj-core:3.25.3")
+    testImplementation("org.springframework.boot:spring-boot-starter-web:$springBootVersion")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
 }
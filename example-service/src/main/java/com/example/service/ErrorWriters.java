@@ -0,0 +1,38 @@
+package com.example.service;
+
+import com.example.errors.json.AccountSuspendedAttributesWriter;
+import com.example.errors.json.InvalidFormatAttributesWriter;
+import com.example.errors.json.MissingValueAttributesWriter;
+import com.example.errors.json.TransferLimitAttributesWriter;
+import com.example.exception.domain.AccountSuspendedAttributes;
+import com.example.exception.domain.TransferLimitExceededAttributes;
+import com.example.exception.json.ProblemDetailModule;
+import com.example.exception.validation.InvalidFormatAttributes;
+import com.example.exception.validation.MissingValueAttributes;
+
+/**
+ * Writes the error attributes of the service with the JSON writers the {@code error-writers}
+ * Smithy plugin generates from its model, through their static {@code write} methods so no writer
+ * is created per error.
+ */
+public final class ErrorWriters {
+
+  private ErrorWriters() {
+  }
+
+  /**
+   * Returns a {@link ProblemDetailModule} writing every attributes type of the model with its
+   * generated writer.
+   */
+  public static ProblemDetailModule problemDetailModule() {
+    return new ProblemDetailModule()
+        .addAttributesWriter(AccountSuspendedAttributes.class, (attributes, gen) ->
+            AccountSuspendedAttributesWriter.write(gen, attributes.reason()))
+        .addAttributesWriter(TransferLimitExceededAttributes.class, (attributes, gen) ->
+            TransferLimitAttributesWriter.write(gen, attributes.amount(), attributes.currency()))
+        .addAttributesWriter(InvalidFormatAttributes.class, (attributes, gen) ->
+            InvalidFormatAttributesWriter.write(gen, attributes.pattern()))
+        .addAttributesWriter(MissingValueAttributes.class, (attributes, gen) ->
+            MissingValueAttributesWriter.write(gen, attributes.missingField()));
+  }
+}
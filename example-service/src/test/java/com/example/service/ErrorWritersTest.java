@@ -0,0 +1,58 @@
+package com.example.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.exception.domain.AccountSuspendedAttributes;
+import com.example.exception.domain.TransferLimitExceededAttributes;
+import com.example.exception.validation.InvalidFormatAttributes;
+import com.example.exception.validation.MissingValueAttributes;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.traits.MixinTrait;
+
+class ErrorWritersTest {
+
+  // error-spring attributes type of each attributes structure of the model
+  private static final Map<String, Class<?>> ATTRIBUTES_TYPES = Map.of(
+      "AccountSuspendedAttributes", AccountSuspendedAttributes.class,
+      "TransferLimitAttributes", TransferLimitExceededAttributes.class,
+      "InvalidFormatAttributes", InvalidFormatAttributes.class,
+      "MissingValueAttributes", MissingValueAttributes.class);
+
+  @Test
+  void shouldWriteEveryAttributesStructureOfModelWithGeneratedWriter() throws Exception {
+    Model model = Model.assembler()
+        .discoverModels(ErrorWritersTest.class.getClassLoader())
+        .addImport(Path.of("model"))
+        .assemble()
+        .unwrap();
+    Set<String> attributesShapes = model.getStructureShapes().stream()
+        .filter(shape -> !shape.hasTrait(MixinTrait.class))
+        .flatMap(shape -> shape.getMember("attributes").stream())
+        .map(MemberShape::getTarget)
+        .filter(target -> target.getNamespace().equals("com.example"))
+        .map(ShapeId::getName)
+        .collect(Collectors.toSet());
+    ObjectMapper objectMapper = new ObjectMapper();
+    objectMapper.registerModule(ErrorWriters.problemDetailModule());
+
+    assertThat(attributesShapes).isNotEmpty();
+    assertThat(ATTRIBUTES_TYPES).containsOnlyKeys(attributesShapes);
+    for (Class<?> type : ATTRIBUTES_TYPES.values()) {
+      JsonSerializer<Object> serializer =
+          objectMapper.getSerializerProviderInstance().findValueSerializer(type);
+      assertThat(serializer)
+          .as("serializer of %s", type.getSimpleName())
+          .isNotInstanceOf(BeanSerializerBase.class);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.example.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.errors.json.AccountSuspendedAttributesWriter;
+import com.example.errors.json.AccountSuspendedDomainProblemDetailWriter;
+import com.example.errors.json.InvalidFormatAttributesWriter;
+import com.example.errors.json.InvalidFormatValidationErrorDetailWriter;
+import com.example.errors.json.JsonWritable;
+import com.example.errors.json.MissingValueAttributesWriter;
+import com.example.errors.json.MissingValueValidationErrorDetailWriter;
+import com.example.errors.json.TransferLimitAttributesWriter;
+import com.example.errors.json.TransferLimitExceededDomainProblemDetailWriter;
+import com.example.errors.json.ValidationErrorDetailUnionWriter;
+import com.example.errors.json.ValidationProblemDetailWriter;
+import com.example.exception.domain.AccountSuspendedAttributes;
+import com.example.exception.domain.AccountSuspendedProblemDetail;
+import com.example.exception.domain.TransferLimitExceededAttributes;
+import com.example.exception.domain.TransferLimitExceededProblemDetail;
+import com.example.exception.json.ProblemDetailModule;
+import com.example.exception.validation.InvalidFormatAttributes;
+import com.example.exception.validation.InvalidFormatValidationError;
+import com.example.exception.validation.MissingValueAttributes;
+import com.example.exception.validation.MissingValueValidationError;
+import com.example.exception.validation.ValidationProblemDetail;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+
+/**
+ * Golden output of the writers the {@code error-writers} plugin generates from the service model:
+ * each must write exactly what {@link ProblemDetailModule} writes for the same error.
+ */
+class GeneratedWriterTest {
+
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    objectMapper.addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class);
+    objectMapper.registerModule(ErrorWriters.problemDetailModule());
+  }
+
+  private String write(JsonWritable writable) throws IOException {
+    StringWriter out = new StringWriter();
+    try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+      writable.writeTo(gen);
+    }
+    return out.toString();
+  }
+
+  @Test
+  void shouldWriteDomainProblemDetailLikeModule() throws Exception {
+    TransferLimitExceededProblemDetail problemDetail = TransferLimitExceededProblemDetail.builder()
+        .detail("Transfer amount exceeds your daily limit")
+        .attributes(new TransferLimitExceededAttributes(new BigDecimal("15000.00"), "USD"))
+        .build();
+    problemDetail.setInstance(URI.create("/transfers/7"));
+
+    assertThat(write(new TransferLimitExceededDomainProblemDetailWriter(
+        "Transfer amount exceeds your daily limit",
+        "/transfers/7",
+        new TransferLimitAttributesWriter(new BigDecimal("15000.00"), "USD"))))
+        .isEqualTo(objectMapper.writeValueAsString(problemDetail));
+  }
+
+  @Test
+  void shouldWriteDomainProblemDetailWithoutOptionalMembersLikeModule() throws Exception {
+    AccountSuspendedProblemDetail problemDetail = AccountSuspendedProblemDetail.builder()
+        .attributes(new AccountSuspendedAttributes("Violation of terms of service"))
+        .build();
+
+    assertThat(write(new AccountSuspendedDomainProblemDetailWriter(null, null,
+        new AccountSuspendedAttributesWriter("Violation of terms of service"))))
+        .isEqualTo(objectMapper.writeValueAsString(problemDetail));
+  }
+
+  @Test
+  void shouldWriteValidationErrorsFlatLikeModule() throws Exception {
+    ValidationProblemDetail problemDetail = ValidationProblemDetail.builder()
+        .error(MissingValueValidationError.builder()
+            .detail("Name is required")
+            .ref("name")
+            .attributes(new MissingValueAttributes("name"))
+            .build())
+        .error(InvalidFormatValidationError.builder()
+            .detail("Email must be a valid email address")
+            .ref("email")
+            .attributes(new InvalidFormatAttributes("^[a-zA-Z0-9]+$"))
+            .build())
+        .build();
+    problemDetail.setDetail("Validation failed");
+
+    assertThat(write(new ValidationProblemDetailWriter("Validation failed", null, List.of(
+        new ValidationErrorDetailUnionWriter.MissingValueValidationErrorDetail(
+            new MissingValueValidationErrorDetailWriter("Name is required", "name",
+                new MissingValueAttributesWriter("name"))),
+        new ValidationErrorDetailUnionWriter.InvalidFormatValidationErrorDetail(
+            new InvalidFormatValidationErrorDetailWriter("Email must be a valid email address",
+                "email", new InvalidFormatAttributesWriter("^[a-zA-Z0-9]+$")))))))
+        .isEqualTo(objectMapper.writeValueAsString(problemDetail));
+  }
+}
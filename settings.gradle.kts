@@ -3,3 +3,4 @@ rootProject.name = "smithy-poc"
 include("error-trait")
 include("example-service")
 include("error-spring")
+include("error-benchmarks")